@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+# Compares cold start of the default build against the startup-optimized build (Spring AOT + AppCDS).
+# For each mode it reports time from JVM launch to the first successful HTTP request, and the process RSS
+# at that moment. Usage: scripts/startup-benchmark.sh [runs]   (needs JDK 17+, Maven and curl)
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup-benchmark"
+JAR_NAME="calender-1.0-SNAPSHOT.jar"
+PROBE_URL="http://localhost:$PORT/api/owner/appointments?ownerId=startup-probe"
+
+rm -rf "$WORK" && mkdir -p "$WORK"
+cd "$ROOT"
+
+echo "Building default jar..."
+mvn -B -q package -DskipTests
+cp "target/$JAR_NAME" "$WORK/default.jar"
+
+echo "Building startup jar (Spring AOT)..."
+mvn -B -q -Pstartup package -DskipTests
+java -Djarmode=tools -jar "target/$JAR_NAME" extract --destination "$WORK/startup"
+
+echo "Training run for the AppCDS archive..."
+java -XX:ArchiveClassesAtExit="$WORK/startup/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$WORK/startup/$JAR_NAME" > "$WORK/training.log" 2>&1
+
+# Starts the app with the given JVM arguments and prints "<ms to first 200> <rss kB>".
+measure() {
+    local start_ns pid elapsed_ms rss_kb
+    start_ns=$(date +%s%N)
+    java "$@" --server.port="$PORT" > "$WORK/run.log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$PROBE_URL"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited during startup, see $WORK/run.log" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed_ms=$(( ($(date +%s%N) - start_ns) / 1000000 ))
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid" && wait "$pid" 2>/dev/null || true
+    echo "$elapsed_ms $rss_kb"
+}
+
+report() {
+    local label="$1"; shift
+    local results=()
+    for _ in $(seq "$RUNS"); do
+        results+=("$(measure "$@")")
+    done
+    printf '%s\n' "${results[@]}" | sort -n | awk -v label="$label" '
+        { ms[NR] = $1; rss += $2 }
+        END { printf "%-10s first-request median %5d ms (min %d, max %d), avg RSS %d MB\n",
+                     label, ms[int((NR + 1) / 2)], ms[1], ms[NR], rss / NR / 1024 }'
+}
+
+report "default" -jar "$WORK/default.jar"
+report "startup" -XX:SharedArchiveFile="$WORK/startup/app.jsa" -Dspring.aot.enabled=true -jar "$WORK/startup/$JAR_NAME"
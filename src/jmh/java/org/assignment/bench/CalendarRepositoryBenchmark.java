@@ -0,0 +1,107 @@
+package org.assignment.bench;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.config.JdbcRepositoryConfig;
+import org.assignment.config.JdbcRepositoryProperties;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.repository.CalendarRepository;
+import org.assignment.repository.InMemoryCalendarRepository;
+import org.assignment.store.TieredAvailabilityStore;
+import org.assignment.store.TieredStoreProperties;
+import org.assignment.tenant.TenantContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the in-memory and JDBC (embedded H2) repositories on the operations behind the four endpoints.
+ * Each owner gets {@code DAYS} days of 9:00-17:00 availability; the book benchmark walks through the slots and
+ * re-opens a day's availability under a fresh owner id once its slots run out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalendarRepositoryBenchmark {
+    private static final int OWNERS = 1_000;
+    private static final int DAYS = 30;
+    private static final List<LocalTime> WORKING_DAY = new ArrayList<>();
+
+    static {
+        for (int hour = 9; hour < 17; hour++) {
+            WORKING_DAY.add(LocalTime.of(hour, 0));
+        }
+    }
+
+    @Param({"memory", "jdbc"})
+    public String backend;
+
+    private CalendarRepository repository;
+    private HikariDataSource dataSource;
+    private final LocalDate firstDay = LocalDate.now().plusDays(1);
+    private long bookCounter;
+    private long ownerCounter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("jdbc".equals(backend)) {
+            JdbcRepositoryConfig config = new JdbcRepositoryConfig();
+            JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+            properties.setUrl("jdbc:h2:mem:bench-" + UUID.randomUUID() + ";QUERY_CACHE_SIZE=64");
+            dataSource = config.calendarDataSource(properties);
+            repository = config.jdbcPartitionFactory(dataSource).create(TenantContext.DEFAULT_TENANT);
+        } else {
+            repository = new InMemoryCalendarRepository(
+                    new TieredAvailabilityStore(new TieredStoreProperties(), new SimpleMeterRegistry()));
+        }
+        for (int owner = 0; owner < OWNERS; owner++) {
+            for (int day = 0; day < DAYS; day++) {
+                repository.replaceAvailability("owner-" + owner, firstDay.plusDays(day), WORKING_DAY);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public NavigableMap<LocalDate, List<LocalTime>> searchSlots() {
+        return repository.findAllAvailability("owner-" + (ownerCounter++ % OWNERS));
+    }
+
+    @Benchmark
+    public List<AppointmentResponse> listAppointments() {
+        return repository.findAppointmentsFrom("owner-" + (ownerCounter++ % OWNERS), firstDay);
+    }
+
+    @Benchmark
+    public boolean setAvailability() {
+        long n = ownerCounter++;
+        return repository.replaceAvailability("fresh-" + n, firstDay.plusDays(n % DAYS), WORKING_DAY);
+    }
+
+    @Benchmark
+    public boolean bookAppointment() {
+        long n = bookCounter++;
+        String ownerId = "book-" + n / WORKING_DAY.size();
+        LocalTime start = WORKING_DAY.get((int) (n % WORKING_DAY.size()));
+        if (start.equals(WORKING_DAY.get(0))) {
+            repository.replaceAvailability(ownerId, firstDay, WORKING_DAY);
+        }
+        return repository.book(new AppointmentResponse(UUID.randomUUID(), ownerId, firstDay, start, start.plusHours(1),
+                "Bench User", "bench@example.com"));
+    }
+}
@@ -0,0 +1,101 @@
+package org.assignment.repository;
+
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.utils.StringPool;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Prints retained heap per stored appointment for the previous layout (one {@link AppointmentResponse} per
+ * appointment in per-owner date/time maps) and for {@link AppointmentTable} with its {@link StringPool}.
+ * Each owner gets 1,000 consecutive hourly appointments. Invitees are drawn from 100,000 distinct people, or are
+ * all one person (the table alone, which gives {@link InMemoryCalendarRepository#APPOINTMENT_BYTES}), or are all
+ * different (every appointment adds two pool entries; compared with {@link StringPool#estimatedBytes()}).
+ * Strings and dates are new objects per appointment, as they are when deserialized from requests.
+ * <p>
+ * {@code mvn -Pbench test-compile exec:exec -Dbench.main=org.assignment.repository.AppointmentFootprintReport
+ * -Dbench.jvm.args=-Xmx4g -Djmh.args=10000000}
+ */
+public final class AppointmentFootprintReport {
+    private static final int APPOINTMENTS_PER_OWNER = 1_000;
+    private static final int INVITEES = 100_000;
+
+    private AppointmentFootprintReport() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        System.out.printf("%,d appointments, %,d owners%n", count, count / APPOINTMENTS_PER_OWNER);
+        Random random = new Random(42);
+        IntUnaryOperator shared = i -> random.nextInt(INVITEES);
+
+        long base = usedHeap();
+        Map<String, NavigableMap<LocalDate, Map<LocalTime, AppointmentResponse>>> legacy = new ConcurrentHashMap<>();
+        fill(count, shared, appointment -> legacy.computeIfAbsent(appointment.getOwnerId(), id -> new TreeMap<>())
+                .computeIfAbsent(appointment.getDate(), d -> new HashMap<>())
+                .put(appointment.getStartTime(), appointment));
+        report("before (AppointmentResponse maps)", usedHeap() - base, count);
+        legacy.clear();
+
+        tables("after, 100k invitees", count, shared);
+        long tableBytes = tables("after, one invitee (table only)", count, i -> 0).bytes;
+        Tables unique = tables("after, unique invitees", count, i -> i);
+        long poolBytes = unique.bytes - tableBytes;
+        System.out.printf("unique invitees: %,d pool entries, %.1f bytes/entry measured, %.1f estimated by the pool%n",
+                unique.pool.size(), (double) poolBytes / unique.pool.size(),
+                (double) unique.pool.estimatedBytes() / unique.pool.size());
+    }
+
+    private static Tables tables(String layout, int count, IntUnaryOperator invitee) throws InterruptedException {
+        long base = usedHeap();
+        Map<String, AppointmentTable> tables = new ConcurrentHashMap<>();
+        StringPool invitees = new StringPool();
+        fill(count, invitee, appointment -> tables.computeIfAbsent(appointment.getOwnerId(), id -> new AppointmentTable())
+                .add(appointment, invitees));
+        long bytes = usedHeap() - base;
+        report(layout, bytes, count);
+        System.out.printf("  %,d owners, %,d distinct invitee strings stored%n", tables.size(), invitees.size());
+        Tables result = new Tables(bytes, invitees);
+        tables.clear();
+        return result;
+    }
+
+    private static void fill(int count, IntUnaryOperator inviteeOf, Consumer<AppointmentResponse> store) {
+        long firstDay = LocalDate.now().plusDays(1).toEpochDay();
+        for (int i = 0; i < count; i++) {
+            int owner = i / APPOINTMENTS_PER_OWNER;
+            int slot = i % APPOINTMENTS_PER_OWNER;
+            LocalTime start = LocalTime.of(slot % 24, 0);
+            int invitee = inviteeOf.applyAsInt(i);
+            store.accept(new AppointmentResponse(UUID.randomUUID(), "owner" + owner,
+                    LocalDate.ofEpochDay(firstDay + slot / 24), start, start.plusHours(1),
+                    "Invitee " + invitee, "invitee" + invitee + "@example.com"));
+        }
+    }
+
+    private record Tables(long bytes, StringPool pool) {
+    }
+
+    private static void report(String layout, long bytes, int count) {
+        System.out.printf("%-36s %,14d bytes  %6.1f bytes/appointment%n", layout, bytes, (double) bytes / count);
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
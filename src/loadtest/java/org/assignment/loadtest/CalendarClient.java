@@ -0,0 +1,75 @@
+package org.assignment.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+
+/** The calendar endpoints the load test drives, over one shared keep-alive HTTP client. */
+final class CalendarClient {
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    CalendarClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    HttpResponse<String> setAvailability(String ownerId, LocalDate date, int startHour, int endHour) throws IOException {
+        return post("/api/owner/availability", String.format(
+                "{\"ownerId\":\"%s\",\"date\":\"%s\",\"startTime\":\"%02d:00\",\"endTime\":\"%02d:00\"}",
+                ownerId, date, startHour, endHour));
+    }
+
+    HttpResponse<String> searchSlots(String ownerId) throws IOException {
+        return get("/api/invitee/slots?ownerId=" + encode(ownerId));
+    }
+
+    HttpResponse<String> book(String ownerId, LocalDate date, String startTime, String invitee) throws IOException {
+        return post("/api/invitee/appointments", String.format(
+                "{\"ownerId\":\"%s\",\"date\":\"%s\",\"startTime\":\"%s\",\"inviteeName\":\"%s\",\"inviteeEmail\":\"%s@example.com\"}",
+                ownerId, date, startTime, invitee, invitee));
+    }
+
+    HttpResponse<String> listAppointments(String ownerId) throws IOException {
+        return get("/api/owner/appointments?ownerId=" + encode(ownerId));
+    }
+
+    HttpResponse<String> utilizationStats(String ownerId, LocalDate fromDate, LocalDate toDate) throws IOException {
+        return get("/api/owner/stats?ownerId=" + encode(ownerId) + "&fromDate=" + fromDate + "&toDate=" + toDate);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET().build());
+    }
+
+    private HttpResponse<String> post(String path, String json) throws IOException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted", ex);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
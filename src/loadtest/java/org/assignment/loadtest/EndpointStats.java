@@ -0,0 +1,70 @@
+package org.assignment.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.FileNotFoundException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Latency histogram and response outcome counts of one endpoint, recorded concurrently by all workers. */
+final class EndpointStats {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Map<Integer, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private Histogram histogram;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    /** Records one measured request; the outcome is the HTTP status, or the body code where the API reports one. */
+    void record(long latencyNanos, int outcome) {
+        recorder.recordValue(latencyNanos);
+        outcomes.computeIfAbsent(outcome, code -> new LongAdder()).increment();
+    }
+
+    /** Stops accepting samples into the reported histogram; call once all workers have stopped. */
+    void finish() {
+        histogram = recorder.getIntervalHistogram();
+    }
+
+    long count() {
+        return histogram.getTotalCount();
+    }
+
+    String summaryLine(double seconds) {
+        return String.format("%-30s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f  %s", name, count(), count() / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()), outcomeSummary());
+    }
+
+    static String summaryHeader() {
+        return String.format("%-30s %9s %9s %8s %8s %8s %8s %9s  %s", "endpoint", "requests", "req/s",
+                "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+    }
+
+    /** Writes the full percentile distribution in the .hgrm format read by HdrHistogram plotters. */
+    void writeDistribution(Path file) throws FileNotFoundException {
+        try (PrintStream out = new PrintStream(file.toFile())) {
+            histogram.outputPercentileDistribution(out, NANOS_PER_MILLI);
+        }
+    }
+
+    private String outcomeSummary() {
+        StringBuilder summary = new StringBuilder();
+        new TreeMap<>(outcomes).forEach((code, count) -> summary.append(code).append('=').append(count.sum()).append(' '));
+        return summary.toString().trim();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,113 @@
+package org.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Reads back every owner of the run through the API and checks that the data is consistent:
+ * <ul>
+ *     <li>no two appointments of an owner share a date and start time (no double booking);</li>
+ *     <li>no booked start time is still offered as available;</li>
+ *     <li>every booking the API confirmed is stored;</li>
+ *     <li>the utilization statistics agree with the stored appointments and availability.</li>
+ * </ul>
+ */
+final class InvariantChecker {
+    private static final int MAX_REPORTED = 20;
+
+    private final CalendarClient client;
+    private final ObjectMapper objectMapper;
+    private final LoadTestOptions options;
+    private final LocalDate firstDay;
+    private final Map<String, Set<String>> bookedIds;
+    private final List<String> violations = new ArrayList<>();
+
+    InvariantChecker(CalendarClient client, ObjectMapper objectMapper, LoadTestOptions options, LocalDate firstDay,
+                     Map<String, Set<String>> bookedIds) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.options = options;
+        this.firstDay = firstDay;
+        this.bookedIds = bookedIds;
+    }
+
+    /** Checks all owners, prints the result, and returns the number of violations found. */
+    int check() throws IOException {
+        long appointments = 0;
+        long confirmed = bookedIds.values().stream().mapToLong(Set::size).sum();
+        for (int owner = 0; owner < options.owners; owner++) {
+            appointments += checkOwner(ZipfianOwners.ownerId(owner));
+        }
+        System.out.println();
+        System.out.printf("Invariants: %d owners, %d confirmed bookings, %d stored appointments%n",
+                options.owners, confirmed, appointments);
+        if (violations.isEmpty()) {
+            System.out.println("OK: no double bookings, no booked slot still available, no lost bookings, stats consistent");
+        } else {
+            System.out.println("FAILED: " + violations.size() + " violations");
+            violations.stream().limit(MAX_REPORTED).forEach(violation -> System.out.println("  " + violation));
+        }
+        return violations.size();
+    }
+
+    private long checkOwner(String ownerId) throws IOException {
+        LocalDate lastDay = firstDay.plusDays(options.horizonDays - 1);
+        Set<String> bookedSlots = new HashSet<>();
+        Set<String> storedIds = new HashSet<>();
+        long bookedInHorizon = 0;
+        for (JsonNode appointment : readArray(client.listAppointments(ownerId), ownerId + " appointments")) {
+            String slot = appointment.path("date").asText() + " " + appointment.path("startTime").asText();
+            if (!bookedSlots.add(slot)) {
+                violations.add(ownerId + ": double booking at " + slot);
+            }
+            storedIds.add(appointment.path("id").asText());
+            LocalDate date = LocalDate.parse(appointment.path("date").asText());
+            if (!date.isBefore(firstDay) && !date.isAfter(lastDay)) {
+                bookedInHorizon++;
+            }
+        }
+        for (String id : bookedIds.getOrDefault(ownerId, Set.of())) {
+            if (!storedIds.contains(id)) {
+                violations.add(ownerId + ": confirmed booking " + id + " is not stored");
+            }
+        }
+
+        long availableInHorizon = 0;
+        HttpResponse<String> slots = client.searchSlots(ownerId);
+        // An owner without any availability is answered with an error rather than an empty list
+        if (slots.statusCode() == 200) {
+            for (JsonNode day : objectMapper.readTree(slots.body())) {
+                String date = day.path("date").asText();
+                LocalDate parsed = LocalDate.parse(date);
+                for (JsonNode time : day.path("availableStartTimes")) {
+                    if (bookedSlots.contains(date + " " + time.asText())) {
+                        violations.add(ownerId + ": booked slot " + date + " " + time.asText() + " is still available");
+                    }
+                    if (!parsed.isBefore(firstDay) && !parsed.isAfter(lastDay)) {
+                        availableInHorizon++;
+                    }
+                }
+            }
+        }
+
+        JsonNode total = objectMapper.readTree(client.utilizationStats(ownerId, firstDay, lastDay).body()).path("total");
+        if (total.path("booked").asLong(-1) != bookedInHorizon || total.path("available").asLong(-1) != availableInHorizon) {
+            violations.add(String.format("%s: stats report %s booked / %s available, data has %d / %d", ownerId,
+                    total.path("booked").asText("?"), total.path("available").asText("?"), bookedInHorizon, availableInHorizon));
+        }
+        return storedIds.size();
+    }
+
+    private JsonNode readArray(HttpResponse<String> response, String what) throws IOException {
+        if (response.statusCode() != 200) {
+            violations.add(what + ": HTTP " + response.statusCode());
+            return objectMapper.createArrayNode();
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
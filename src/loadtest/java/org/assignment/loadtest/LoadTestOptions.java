@@ -0,0 +1,106 @@
+package org.assignment.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings of one load test run, parsed from {@code key=value} arguments. Arguments starting with {@code --} are
+ * passed on to the in-process application as Spring properties instead.
+ */
+final class LoadTestOptions {
+    private static final int MAX_HORIZON_DAYS = 731;
+
+    /** Seconds of measured traffic. */
+    final int durationSeconds;
+    /** Seconds of unmeasured traffic before that. */
+    final int warmupSeconds;
+    final int threads;
+    final int owners;
+    /** Zipf exponent of owner popularity; 0 is uniform, around 1 makes a few owners take most requests. */
+    final double zipfExponent;
+    /** Dates used, starting tomorrow. */
+    final int horizonDays;
+    /** Dates per owner given availability before the run, so searches and bookings have something to find. */
+    final int seedDays;
+    /** Relative weights of set-availability, search and book requests. */
+    final int[] mix;
+    /** Total requests per second across all threads, or 0 to send as fast as responses come back. */
+    final double rate;
+    /** Base URL of a running instance; empty to start the application in this JVM. */
+    final String target;
+    final long seed;
+    final String outputDir;
+    final List<String> springArgs;
+
+    private LoadTestOptions(Map<String, String> values, List<String> springArgs) {
+        this.durationSeconds = Integer.parseInt(take(values, "duration", "30"));
+        this.warmupSeconds = Integer.parseInt(take(values, "warmup", "5"));
+        this.threads = Integer.parseInt(take(values, "threads", "8"));
+        this.owners = Integer.parseInt(take(values, "owners", "1000"));
+        this.zipfExponent = Double.parseDouble(take(values, "zipf", "0.99"));
+        this.horizonDays = Integer.parseInt(take(values, "days", "28"));
+        this.seedDays = Integer.parseInt(take(values, "seedDays", "5"));
+        this.mix = parseMix(take(values, "mix", "10:70:20"));
+        this.rate = Double.parseDouble(take(values, "rate", "0"));
+        this.target = take(values, "target", "");
+        this.seed = Long.parseLong(take(values, "seed", "42"));
+        this.outputDir = take(values, "out", "target/loadtest");
+        this.springArgs = springArgs;
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        if (threads < 1 || owners < 1 || horizonDays < 1 || seedDays > horizonDays || durationSeconds < 1) {
+            throw new IllegalArgumentException("threads, owners, days and duration must be positive, seedDays <= days");
+        }
+        // The invariant check reads utilization statistics over the whole horizon in one query
+        if (horizonDays > MAX_HORIZON_DAYS) {
+            throw new IllegalArgumentException("days must be at most " + MAX_HORIZON_DAYS);
+        }
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+                continue;
+            }
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got " + arg);
+            }
+            values.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        return new LoadTestOptions(values, springArgs);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("duration=%ds warmup=%ds threads=%d owners=%d zipf=%.2f days=%d seedDays=%d mix=%d:%d:%d rate=%s target=%s",
+                durationSeconds, warmupSeconds, threads, owners, zipfExponent, horizonDays, seedDays, mix[0], mix[1], mix[2],
+                rate > 0 ? rate + "/s" : "closed-loop", target.isEmpty() ? "in-process" : target);
+    }
+
+    private static String take(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+
+    private static int[] parseMix(String mix) {
+        String[] parts = mix.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("mix must be setAvailability:search:book weights, e.g. 10:70:20");
+        }
+        int[] weights = new int[3];
+        for (int i = 0; i < 3; i++) {
+            weights[i] = Integer.parseInt(parts[i]);
+        }
+        if (weights[0] + weights[1] + weights[2] <= 0) {
+            throw new IllegalArgumentException("mix weights must not all be 0");
+        }
+        return weights;
+    }
+}
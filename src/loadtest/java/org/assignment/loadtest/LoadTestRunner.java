@@ -0,0 +1,243 @@
+package org.assignment.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assignment.CalendarApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * End-to-end load test of the REST API. Starts {@link CalendarApplication} in this JVM on a free port (or targets
+ * a running instance), gives every owner some availability, then runs worker threads that each loop over a weighted
+ * mix of set-availability, search and book requests for owners drawn from a Zipfian distribution. Bookings pick a
+ * slot from the most recent search result for the owner, so popular owners see concurrent attempts on the same slot.
+ * Prints throughput and latency percentiles per endpoint, writes each endpoint's HDR histogram to {@code out}, and
+ * finally checks the stored data with {@link InvariantChecker}; exits with status 1 on any violation.
+ * <p>
+ * With {@code rate} set, requests follow a fixed schedule and latency is measured from the scheduled start, so a
+ * slow response also counts against the requests queued behind it (no coordinated omission).
+ * <p>
+ * {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="duration=60 threads=16 owners=5000 zipf=1.1 mix=10:70:20"}
+ */
+public final class LoadTestRunner {
+    private static final int SET_AVAILABILITY = 0;
+    private static final int SEARCH = 1;
+    private static final int BOOK = 2;
+    private static final Pattern BODY_CODE = Pattern.compile("\"code\"\\s*:\\s*(\\d+)");
+    private static final Pattern APPOINTMENT_ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+    // Outcome recorded when a request fails without a response
+    private static final int IO_ERROR = -1;
+
+    private final LoadTestOptions options;
+    private final CalendarClient client;
+    private final ZipfianOwners owners;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LocalDate firstDay = LocalDate.now().plusDays(1);
+    private final EndpointStats[] stats = {
+            new EndpointStats("POST /api/owner/availability"),
+            new EndpointStats("GET /api/invitee/slots"),
+            new EndpointStats("POST /api/invitee/appointments")};
+    // Latest search result per owner (date and start time pairs), read by bookings
+    private final Map<String, List<String[]>> lastSeenSlots = new ConcurrentHashMap<>();
+    // Ids of every successful booking per owner, warm-up included, for the invariant check
+    private final Map<String, Set<String>> bookedIds = new ConcurrentHashMap<>();
+    private final AtomicLong inviteeCounter = new AtomicLong();
+
+    private LoadTestRunner(LoadTestOptions options, CalendarClient client) {
+        this.options = options;
+        this.client = client;
+        this.owners = new ZipfianOwners(options.owners, options.zipfExponent);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Files.createDirectories(Path.of(options.outputDir));
+        ConfigurableApplicationContext application = null;
+        String baseUrl = options.target;
+        if (baseUrl.isEmpty()) {
+            application = startApplication(options);
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+        }
+        int violations;
+        try {
+            System.out.println("Load test against " + baseUrl + ": " + options);
+            LoadTestRunner runner = new LoadTestRunner(options, new CalendarClient(baseUrl));
+            runner.seed();
+            runner.run();
+            runner.report();
+            violations = new InvariantChecker(runner.client, runner.objectMapper, options, runner.firstDay,
+                    runner.bookedIds).check();
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+        System.exit(violations == 0 ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options) {
+        List<String> args = new ArrayList<>(List.of("--server.port=0",
+                "--calendar.events.file-path=" + Path.of(options.outputDir, "calendar-events.ndjson")));
+        args.addAll(options.springArgs);
+        return SpringApplication.run(CalendarApplication.class, args.toArray(String[]::new));
+    }
+
+    /** Gives every owner a 09:00-17:00 window on its first {@code seedDays} dates. */
+    private void seed() throws InterruptedException {
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(options.threads);
+        AtomicLong failures = new AtomicLong();
+        for (int owner = 0; owner < options.owners; owner++) {
+            String ownerId = ZipfianOwners.ownerId(owner);
+            executor.execute(() -> {
+                for (int day = 0; day < options.seedDays; day++) {
+                    try {
+                        if (client.setAvailability(ownerId, firstDay.plusDays(day), 9, 17).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (IOException ex) {
+                        failures.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+        System.out.printf("Seeded %d owners x %d days in %.1fs (%d failed)%n", options.owners, options.seedDays,
+                (System.nanoTime() - start) / 1e9, failures.get());
+    }
+
+    private void run() throws InterruptedException {
+        long warmupStart = System.nanoTime();
+        long measureStart = warmupStart + TimeUnit.SECONDS.toNanos(options.warmupSeconds);
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.durationSeconds);
+        Thread[] workers = new Thread[options.threads];
+        for (int i = 0; i < workers.length; i++) {
+            SplittableRandom random = new SplittableRandom(options.seed + i);
+            workers[i] = new Thread(() -> work(random, warmupStart, measureStart, end), "load-worker-" + i);
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        for (EndpointStats endpoint : stats) {
+            endpoint.finish();
+        }
+    }
+
+    private void work(SplittableRandom random, long start, long measureStart, long end) {
+        long interval = options.rate > 0 ? (long) (1e9 * options.threads / options.rate) : 0;
+        // Stagger the schedules so paced workers do not fire in lockstep
+        long scheduled = start + (interval > 0 ? random.nextLong(interval) : 0);
+        int total = options.mix[0] + options.mix[1] + options.mix[2];
+        while (true) {
+            long now = System.nanoTime();
+            if (interval > 0) {
+                if (scheduled > now) {
+                    LockSupport.parkNanos(scheduled - now);
+                }
+            } else {
+                scheduled = now;
+            }
+            if (scheduled >= end) {
+                return;
+            }
+            int pick = random.nextInt(total);
+            int operation = pick < options.mix[0] ? SET_AVAILABILITY : pick < options.mix[0] + options.mix[1] ? SEARCH : BOOK;
+            int outcome = execute(operation, random);
+            if (scheduled >= measureStart) {
+                stats[operation].record(System.nanoTime() - scheduled, outcome);
+            }
+            scheduled += interval;
+        }
+    }
+
+    private int execute(int operation, SplittableRandom random) {
+        String ownerId = owners.next(random);
+        try {
+            switch (operation) {
+                case SET_AVAILABILITY -> {
+                    int startHour = 8 + random.nextInt(4);
+                    HttpResponse<String> response = client.setAvailability(ownerId,
+                            firstDay.plusDays(random.nextInt(options.horizonDays)), startHour, startHour + 4 + random.nextInt(5));
+                    // The API reports the result in the body code of a 200 response
+                    Matcher code = BODY_CODE.matcher(response.body());
+                    return code.find() ? Integer.parseInt(code.group(1)) : response.statusCode();
+                }
+                case SEARCH -> {
+                    HttpResponse<String> response = client.searchSlots(ownerId);
+                    if (response.statusCode() == 200) {
+                        lastSeenSlots.put(ownerId, parseSlots(response.body()));
+                    }
+                    return response.statusCode();
+                }
+                default -> {
+                    return book(ownerId, random);
+                }
+            }
+        } catch (IOException ex) {
+            return IO_ERROR;
+        }
+    }
+
+    private int book(String ownerId, SplittableRandom random) throws IOException {
+        List<String[]> seen = lastSeenSlots.get(ownerId);
+        LocalDate date;
+        String startTime;
+        if (seen != null && !seen.isEmpty()) {
+            String[] slot = seen.get(random.nextInt(seen.size()));
+            date = LocalDate.parse(slot[0]);
+            startTime = slot[1];
+        } else {
+            date = firstDay.plusDays(random.nextInt(options.seedDays));
+            startTime = String.format("%02d:00", 9 + random.nextInt(8));
+        }
+        HttpResponse<String> response = client.book(ownerId, date, startTime, "invitee" + inviteeCounter.incrementAndGet());
+        if (response.statusCode() == 200) {
+            Matcher id = APPOINTMENT_ID.matcher(response.body());
+            if (id.find()) {
+                bookedIds.computeIfAbsent(ownerId, owner -> ConcurrentHashMap.newKeySet()).add(id.group(1));
+            }
+        }
+        return response.statusCode();
+    }
+
+    private List<String[]> parseSlots(String body) throws IOException {
+        List<String[]> slots = new ArrayList<>();
+        for (JsonNode day : objectMapper.readTree(body)) {
+            String date = day.path("date").asText();
+            for (JsonNode time : day.path("availableStartTimes")) {
+                slots.add(new String[]{date, time.asText()});
+            }
+        }
+        return slots;
+    }
+
+    private void report() throws IOException {
+        System.out.println();
+        System.out.printf("Measured %ds with %d threads%n", options.durationSeconds, options.threads);
+        System.out.println(EndpointStats.summaryHeader());
+        long total = 0;
+        for (EndpointStats endpoint : stats) {
+            System.out.println(endpoint.summaryLine(options.durationSeconds));
+            total += endpoint.count();
+            String file = endpoint.name.replaceAll("[^A-Za-z]+", "-").replaceAll("^-|-$", "").toLowerCase(Locale.ROOT);
+            endpoint.writeDistribution(Path.of(options.outputDir, file + ".hgrm"));
+        }
+        System.out.printf("%-30s %9d %9.1f%n", "total", total, (double) total / options.durationSeconds);
+        System.out.println("Latency distributions written to " + options.outputDir + "/*.hgrm");
+    }
+}
@@ -0,0 +1,31 @@
+package org.assignment.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/** Draws owner ids with Zipfian popularity: owner rank k is picked with probability proportional to 1 / k^s. */
+final class ZipfianOwners {
+    private final double[] cumulative;
+
+    ZipfianOwners(int owners, double exponent) {
+        cumulative = new double[owners];
+        double sum = 0;
+        for (int rank = 1; rank <= owners; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < owners; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    String next(SplittableRandom random) {
+        int pos = Arrays.binarySearch(cumulative, random.nextDouble());
+        int index = pos >= 0 ? pos : -pos - 1;
+        return ownerId(Math.min(index, cumulative.length - 1));
+    }
+
+    static String ownerId(int index) {
+        return "load-owner-" + index;
+    }
+}
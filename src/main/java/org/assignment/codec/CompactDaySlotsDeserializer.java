@@ -0,0 +1,26 @@
+package org.assignment.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.assignment.dtos.DaySlots;
+import org.assignment.utils.SlotMask;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/** Reads the compact form written by {@link CompactDaySlotsSerializer}, for Java clients of the CBOR endpoints. */
+public class CompactDaySlotsDeserializer extends StdDeserializer<DaySlots> {
+
+    public CompactDaySlotsDeserializer() {
+        super(DaySlots.class);
+    }
+
+    @Override
+    public DaySlots deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        JsonNode node = parser.readValueAsTree();
+        LocalDate date = LocalDate.ofEpochDay(node.path("date").asLong());
+        return new DaySlots(date, SlotMask.toStartTimes(node.path("slotMask").asInt()));
+    }
+}
@@ -0,0 +1,28 @@
+package org.assignment.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.assignment.dtos.DaySlots;
+import org.assignment.utils.SlotMask;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link DaySlots} as {@code {"date": <epoch day>, "slotMask": <hour bitmask>}}.
+ * Only registered on the binary (CBOR) mapper; JSON responses keep the yyyy-MM-dd / HH:mm shape.
+ */
+public class CompactDaySlotsSerializer extends StdSerializer<DaySlots> {
+
+    public CompactDaySlotsSerializer() {
+        super(DaySlots.class);
+    }
+
+    @Override
+    public void serialize(DaySlots value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("date", value.getDate().toEpochDay());
+        gen.writeNumberField("slotMask", SlotMask.of(value.getAvailableStartTimes()));
+        gen.writeEndObject();
+    }
+}
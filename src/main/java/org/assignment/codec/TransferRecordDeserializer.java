@@ -0,0 +1,97 @@
+package org.assignment.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.assignment.dtos.TransferRecord;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads {@link TransferRecord} lines token by token, parsing yyyy-MM-dd and HH:mm values directly instead of
+ * through pattern formatters. Unknown fields are skipped; malformed values fail the record.
+ * Registered on the transfer streamer's mapper only.
+ */
+public class TransferRecordDeserializer extends StdDeserializer<TransferRecord> {
+
+    public TransferRecordDeserializer() {
+        super(TransferRecord.class);
+    }
+
+    @Override
+    public TransferRecord deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (!parser.isExpectedStartObjectToken()) {
+            return (TransferRecord) ctxt.handleUnexpectedToken(TransferRecord.class, parser);
+        }
+        TransferRecord record = new TransferRecord();
+        try {
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                switch (field) {
+                    case "type" -> record.setType(TransferRecord.Type.valueOf(parser.getText()));
+                    case "ownerId" -> record.setOwnerId(parser.getText());
+                    case "date" -> record.setDate(parseDate(parser.getText()));
+                    case "startTimes" -> record.setStartTimes(readTimes(parser, ctxt));
+                    case "id" -> record.setId(UUID.fromString(parser.getText()));
+                    case "startTime" -> record.setStartTime(parseTime(parser.getText()));
+                    case "endTime" -> record.setEndTime(parseTime(parser.getText()));
+                    case "inviteeName" -> record.setInviteeName(parser.getText());
+                    case "inviteeEmail" -> record.setInviteeEmail(parser.getText());
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            return (TransferRecord) ctxt.handleWeirdStringValue(TransferRecord.class, parser.getText(), ex.getMessage());
+        }
+        return record;
+    }
+
+    private static List<LocalTime> readTimes(JsonParser parser, DeserializationContext ctxt) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            ctxt.reportInputMismatch(TransferRecord.class, "startTimes must be an array");
+        }
+        List<LocalTime> times = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            times.add(parseTime(parser.getText()));
+        }
+        return times;
+    }
+
+    static LocalDate parseDate(String text) {
+        if (text.length() == 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            return LocalDate.of(number(text, 0, 4), number(text, 5, 7), number(text, 8, 10));
+        }
+        return LocalDate.parse(text);
+    }
+
+    static LocalTime parseTime(String text) {
+        if (text.length() == 5 && text.charAt(2) == ':') {
+            return LocalTime.of(number(text, 0, 2), number(text, 3, 5));
+        }
+        return LocalTime.parse(text);
+    }
+
+    private static int number(String text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new DateTimeParseException("Not a number", text, i);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,81 @@
+package org.assignment.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.assignment.dtos.TransferRecord;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Writes {@link TransferRecord} in the same shape as its annotated bean form (yyyy-MM-dd dates, HH:mm times,
+ * null fields omitted) without going through pattern formatters, which dominate bulk export time.
+ * Registered on the transfer streamer's mapper only.
+ */
+public class TransferRecordSerializer extends StdSerializer<TransferRecord> {
+
+    public TransferRecordSerializer() {
+        super(TransferRecord.class);
+    }
+
+    @Override
+    public void serialize(TransferRecord value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        if (value.getType() != null) {
+            gen.writeStringField("type", value.getType().name());
+        }
+        writeString(gen, "ownerId", value.getOwnerId());
+        if (value.getDate() != null) {
+            gen.writeStringField("date", formatDate(value.getDate()));
+        }
+        if (value.getStartTimes() != null) {
+            gen.writeArrayFieldStart("startTimes");
+            for (LocalTime time : value.getStartTimes()) {
+                gen.writeString(formatTime(time));
+            }
+            gen.writeEndArray();
+        }
+        if (value.getId() != null) {
+            gen.writeStringField("id", value.getId().toString());
+        }
+        if (value.getStartTime() != null) {
+            gen.writeStringField("startTime", formatTime(value.getStartTime()));
+        }
+        if (value.getEndTime() != null) {
+            gen.writeStringField("endTime", formatTime(value.getEndTime()));
+        }
+        writeString(gen, "inviteeName", value.getInviteeName());
+        writeString(gen, "inviteeEmail", value.getInviteeEmail());
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, String name, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(name, value);
+        }
+    }
+
+    static String formatDate(LocalDate date) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return date.toString();
+        }
+        char[] chars = {
+                digit(year / 1000), digit(year / 100 % 10), digit(year / 10 % 10), digit(year % 10), '-',
+                digit(date.getMonthValue() / 10), digit(date.getMonthValue() % 10), '-',
+                digit(date.getDayOfMonth() / 10), digit(date.getDayOfMonth() % 10)};
+        return new String(chars);
+    }
+
+    static String formatTime(LocalTime time) {
+        return new String(new char[]{
+                digit(time.getHour() / 10), digit(time.getHour() % 10), ':',
+                digit(time.getMinute() / 10), digit(time.getMinute() % 10)});
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
@@ -0,0 +1,28 @@
+package org.assignment.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.assignment.codec.CompactDaySlotsDeserializer;
+import org.assignment.codec.CompactDaySlotsSerializer;
+import org.assignment.dtos.DaySlots;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Enables {@code Accept: application/cbor} (and CBOR request bodies) on all endpoints.
+ * The mapper starts from Boot's configured builder so modules and date settings match the JSON mapper,
+ * and additionally encodes {@link DaySlots} as epoch day plus slot bitmask.
+ */
+@Configuration
+public class CborCodecConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder
+                .factory(new CBORFactory())
+                .serializerByType(DaySlots.class, new CompactDaySlotsSerializer())
+                .deserializerByType(DaySlots.class, new CompactDaySlotsDeserializer())
+                .build());
+    }
+}
@@ -4,12 +4,16 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import org.assignment.exceptions.BadRequestException;
 import org.assignment.exceptions.ConflictException;
 import org.assignment.exceptions.InternalServerException;
+import org.assignment.exceptions.PayloadTooLargeException;
+import org.assignment.exceptions.QuotaExceededException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -30,6 +34,16 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, ex.getMessage(), ex.getClass().getSimpleName());
     }
 
+    @ExceptionHandler(QuotaExceededException.class)
+    public ResponseEntity<Map<String, Object>> handleQuotaExceeded(QuotaExceededException ex) {
+        return build(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage(), ex.getClass().getSimpleName());
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<Map<String, Object>> handlePayloadTooLarge(PayloadTooLargeException ex) {
+        return build(HttpStatus.PAYLOAD_TOO_LARGE, ex.getMessage(), ex.getClass().getSimpleName());
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidation(MethodArgumentNotValidException ex) {
         return build(HttpStatus.BAD_REQUEST, "Validation failed", BadRequestException.class.getSimpleName());
@@ -57,6 +71,19 @@ public class GlobalExceptionHandler {
                 " request body", BadRequestException.class.getSimpleName());
     }
 
+    // Query parameters that do not convert, e.g. a date not in yyyy-MM-dd or an unknown enum value
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, Object>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return build(HttpStatus.BAD_REQUEST, String.format("Invalid value for '%s'", ex.getName()),
+                BadRequestException.class.getSimpleName());
+    }
+
+    // Unmapped paths, including endpoints switched off by configuration such as /api/diagnostics
+    @ExceptionHandler(NoResourceFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleNotFound(NoResourceFoundException ex) {
+        return build(HttpStatus.NOT_FOUND, ex.getMessage(), ex.getClass().getSimpleName());
+    }
+
     @ExceptionHandler(InternalServerException.class)
     public ResponseEntity<Map<String, Object>> handleInternal(InternalServerException ex) {
         return build(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage(), ex.getClass().getSimpleName());
@@ -0,0 +1,76 @@
+package org.assignment.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.assignment.repository.CalendarPartitionFactory;
+import org.assignment.repository.JdbcCalendarRepository;
+import org.assignment.repository.JdbcPartitionFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Switches storage to {@link JdbcCalendarRepository} when {@code calendar.repository=jdbc}.
+ * The data source is only created in that mode, so the default in-memory mode carries no JDBC pool.
+ * A database from before tenant partitions is upgraded in place on startup, and startup fails if any table still
+ * lacks {@code tenant_id} rather than letting every statement fail later.
+ */
+@Configuration
+@ConditionalOnProperty(name = "calendar.repository", havingValue = "jdbc")
+public class JdbcRepositoryConfig {
+    private static final int SCHEMA_TABLES = 3;
+    private static final String COUNT_TABLES = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES"
+            + " WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND TABLE_NAME IN ('AVAILABILITY_DAY', 'AVAILABILITY_SLOT', 'APPOINTMENT')";
+    private static final String COUNT_TENANT_COLUMNS = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS"
+            + " WHERE TABLE_SCHEMA = CURRENT_SCHEMA AND COLUMN_NAME = 'TENANT_ID'"
+            + " AND TABLE_NAME IN ('AVAILABILITY_DAY', 'AVAILABILITY_SLOT', 'APPOINTMENT')";
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource calendarDataSource(JdbcRepositoryProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("calendar");
+        config.setJdbcUrl(properties.getUrl());
+        config.setUsername(properties.getUsername());
+        config.setPassword(properties.getPassword());
+        config.setMaximumPoolSize(properties.getPoolSize());
+        HikariDataSource dataSource = new HikariDataSource(config);
+        try {
+            initSchema(dataSource);
+        } catch (RuntimeException ex) {
+            dataSource.close();
+            throw ex;
+        }
+        return dataSource;
+    }
+
+    /** Tenant partitions share the pool and tables, each scoped by its tenant id. */
+    @Bean
+    public CalendarPartitionFactory jdbcPartitionFactory(HikariDataSource calendarDataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(calendarDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(calendarDataSource));
+        return new JdbcPartitionFactory(jdbcTemplate, transactionTemplate);
+    }
+
+    private static void initSchema(HikariDataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long tables = count(jdbcTemplate, COUNT_TABLES);
+        if (tables > 0 && count(jdbcTemplate, COUNT_TENANT_COLUMNS) == 0) {
+            new ResourceDatabasePopulator(new ClassPathResource("db/calendar-schema-tenant-upgrade.sql")).execute(dataSource);
+        }
+        new ResourceDatabasePopulator(new ClassPathResource("db/calendar-schema.sql")).execute(dataSource);
+        if (count(jdbcTemplate, COUNT_TENANT_COLUMNS) != SCHEMA_TABLES) {
+            throw new IllegalStateException("Calendar tables at " + dataSource.getJdbcUrl()
+                    + " do not all have a tenant_id column; upgrade or recreate the database");
+        }
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
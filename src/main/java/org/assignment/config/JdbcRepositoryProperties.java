@@ -0,0 +1,14 @@
+package org.assignment.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "calendar.jdbc")
+public class JdbcRepositoryProperties {
+    // Embedded in-memory H2 by default; QUERY_CACHE_SIZE keeps parsed statements per pooled connection for reuse.
+    private String url = "jdbc:h2:mem:calendar;DB_CLOSE_DELAY=-1;QUERY_CACHE_SIZE=64";
+    private String username = "sa";
+    private String password = "";
+    private int poolSize = 16;
+}
@@ -0,0 +1,23 @@
+package org.assignment.config;
+
+import org.assignment.tenant.TenantInterceptor;
+import org.assignment.tenant.TenantProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Binds every request to its tenant before the controllers run. */
+@Configuration
+public class TenantWebConfig implements WebMvcConfigurer {
+
+    private final TenantProperties tenantProperties;
+
+    public TenantWebConfig(TenantProperties tenantProperties) {
+        this.tenantProperties = tenantProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TenantInterceptor(tenantProperties));
+    }
+}
@@ -7,14 +7,25 @@ public final class ApiPaths {
 
     public static final String OWNER = API_BASE + "/owner";
     public static final String INVITEE = API_BASE + "/invitee";
+    public static final String DIAGNOSTICS = API_BASE + "/diagnostics";
+    public static final String TRANSFER = API_BASE + "/transfer";
 
     // Owner endpoints
     public static final String SET_AVAILABILITY = "/availability"; // POST
     public static final String LIST_APPOINTMENTS = "/appointments"; // GET
+    public static final String BULK_APPOINTMENTS = "/appointments/bulk"; // POST with owner ids in body, streamed
+    public static final String UTILIZATION_STATS = "/stats"; // GET with ownerId, fromDate, toDate, period params
 
     // Invitee endpoints
     public static final String SEARCH_SLOTS = "/slots"; // GET with date param
     public static final String BOOK_APPOINTMENT = "/appointments"; // POST
-}
+    public static final String EARLIEST_SLOTS = "/slots/earliest"; // POST with owner pool in body
+    public static final String BULK_SLOTS = "/slots/bulk"; // POST with owner ids in body, streamed
 
+    // Transfer endpoints (NDJSON of all owners, gzip when requested via Accept-Encoding / Content-Encoding)
+    public static final String EXPORT = "/export"; // GET
+    public static final String IMPORT = "/import"; // POST
 
+    // Diagnostics endpoints
+    public static final String RECORDING = "/recording"; // POST starts a bounded JFR recording, GET dumps it
+}
@@ -0,0 +1,48 @@
+package org.assignment.controller;
+
+import org.assignment.constants.ApiPaths;
+import org.assignment.diagnostics.FlightRecordingManager;
+import org.assignment.dtos.RecordingResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/** On-demand flight recordings; off unless {@code calendar.diagnostics.recording.enabled=true}. */
+@RestController
+@RequestMapping(ApiPaths.DIAGNOSTICS)
+@ConditionalOnProperty(name = "calendar.diagnostics.recording.enabled", havingValue = "true")
+public class DiagnosticsController {
+
+    private final FlightRecordingManager flightRecordingManager;
+
+    public DiagnosticsController(FlightRecordingManager flightRecordingManager) {
+        this.flightRecordingManager = flightRecordingManager;
+    }
+
+    @PostMapping(ApiPaths.RECORDING)
+    public ResponseEntity<RecordingResponse> startRecording(@RequestParam(value = "durationSeconds", defaultValue = "60") int durationSeconds) {
+        return ResponseEntity.ok(flightRecordingManager.start(durationSeconds));
+    }
+
+    @GetMapping(ApiPaths.RECORDING)
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        Path file = flightRecordingManager.dump();
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"calendar.jfr\"")
+                .body(body);
+    }
+}
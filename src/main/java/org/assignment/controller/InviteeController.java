@@ -3,10 +3,16 @@ package org.assignment.controller;
 import org.assignment.constants.ApiPaths;
 import org.assignment.dtos.AppointmentResponse;
 import org.assignment.dtos.BookAppointmentRequest;
+import org.assignment.dtos.BulkReadRequest;
 import org.assignment.dtos.DaySlots;
+import org.assignment.dtos.EarliestSlotsRequest;
+import org.assignment.dtos.OwnerSlot;
+import org.assignment.serviceImpl.BulkReadStreamer;
 import org.assignment.services.CalendarService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -15,9 +21,11 @@ import java.util.List;
 public class InviteeController {
 
     private final CalendarService calendarService;
+    private final BulkReadStreamer bulkReadStreamer;
 
-    public InviteeController(CalendarService calendarService) {
+    public InviteeController(CalendarService calendarService, BulkReadStreamer bulkReadStreamer) {
         this.calendarService = calendarService;
+        this.bulkReadStreamer = bulkReadStreamer;
     }
 
     @GetMapping(ApiPaths.SEARCH_SLOTS)
@@ -30,4 +38,16 @@ public class InviteeController {
     public ResponseEntity<AppointmentResponse> bookAppointment(@RequestBody BookAppointmentRequest request) {
         return ResponseEntity.ok(calendarService.bookAppointment(request));
     }
+
+    @PostMapping(ApiPaths.EARLIEST_SLOTS)
+    public ResponseEntity<List<OwnerSlot>> earliestSlots(@RequestBody EarliestSlotsRequest request) {
+        return ResponseEntity.ok(calendarService.findEarliestAvailableSlots(request));
+    }
+
+    @PostMapping(ApiPaths.BULK_SLOTS)
+    public ResponseEntity<StreamingResponseBody> bulkSlots(@RequestBody BulkReadRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bulkReadStreamer.slots(request));
+    }
 }
@@ -4,10 +4,18 @@ import org.assignment.constants.ApiPaths;
 import org.assignment.dtos.AvailabilityRuleRequest;
 import org.assignment.dtos.AvailabilityRuleResponse;
 import org.assignment.dtos.AppointmentResponse;
+import org.assignment.dtos.BulkReadRequest;
+import org.assignment.dtos.StatsPeriod;
+import org.assignment.dtos.UtilizationStats;
+import org.assignment.serviceImpl.BulkReadStreamer;
 import org.assignment.services.CalendarService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,9 +23,11 @@ import java.util.List;
 public class OwnerController {
 
     private final CalendarService calendarService;
+    private final BulkReadStreamer bulkReadStreamer;
 
-    public OwnerController(CalendarService calendarService) {
+    public OwnerController(CalendarService calendarService, BulkReadStreamer bulkReadStreamer) {
         this.calendarService = calendarService;
+        this.bulkReadStreamer = bulkReadStreamer;
     }
 
     @PostMapping(ApiPaths.SET_AVAILABILITY)
@@ -29,4 +39,20 @@ public class OwnerController {
     public ResponseEntity<List<AppointmentResponse>> listAppointments(@RequestParam("ownerId") String ownerId) {
         return ResponseEntity.ok(calendarService.listUpcomingAppointments(ownerId));
     }
+
+    @GetMapping(ApiPaths.UTILIZATION_STATS)
+    public ResponseEntity<UtilizationStats> utilizationStats(
+            @RequestParam(value = "ownerId", required = false) String ownerId,
+            @RequestParam(value = "fromDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate fromDate,
+            @RequestParam(value = "toDate", required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate toDate,
+            @RequestParam(value = "period", required = false) StatsPeriod period) {
+        return ResponseEntity.ok(calendarService.getUtilizationStats(ownerId, fromDate, toDate, period));
+    }
+
+    @PostMapping(ApiPaths.BULK_APPOINTMENTS)
+    public ResponseEntity<StreamingResponseBody> bulkAppointments(@RequestBody BulkReadRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(bulkReadStreamer.appointments(request));
+    }
 }
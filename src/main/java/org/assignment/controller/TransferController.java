@@ -0,0 +1,49 @@
+package org.assignment.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.assignment.constants.ApiPaths;
+import org.assignment.dtos.ImportResult;
+import org.assignment.serviceImpl.CalendarTransferStreamer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping(ApiPaths.TRANSFER)
+public class TransferController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final CalendarTransferStreamer transferStreamer;
+
+    public TransferController(CalendarTransferStreamer transferStreamer) {
+        this.transferStreamer = transferStreamer;
+    }
+
+    @GetMapping(ApiPaths.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportAll(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = isGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(NDJSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(transferStreamer.export(gzip));
+    }
+
+    @PostMapping(ApiPaths.IMPORT)
+    public ResponseEntity<ImportResult> importAll(
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(transferStreamer.importRecords(request.getInputStream(), request.getContentLengthLong(),
+                isGzip(contentEncoding)));
+    }
+
+    private static boolean isGzip(String encoding) {
+        return encoding != null && encoding.toLowerCase().contains("gzip");
+    }
+}
@@ -0,0 +1,40 @@
+package org.assignment.diagnostics;
+
+import jdk.jfr.*;
+
+/** JFR event for one calendar service operation; see {@link OperationRecorder}. */
+@Name("org.assignment.CalendarOperation")
+@Label("Calendar Operation")
+@Category("Calendar")
+@Description("One calendar service call with its phase timings")
+@StackTrace(false)
+public class CalendarOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Tenant Id")
+    String tenantId;
+
+    @Label("Owner Id")
+    String ownerId;
+
+    @Label("Outcome")
+    @Description("OK, or the simple name of the exception / the response code for failures")
+    String outcome;
+
+    @Label("Validation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long validationTime;
+
+    @Label("Store Lookup Time")
+    @Description("Time spent in the repository, excluding lock wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long lookupTime;
+
+    @Label("Lock Wait Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWaitTime;
+
+    @Label("Result Size")
+    int resultSize;
+}
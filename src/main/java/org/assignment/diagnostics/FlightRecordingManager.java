@@ -0,0 +1,92 @@
+package org.assignment.diagnostics;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.assignment.dtos.RecordingResponse;
+import org.assignment.exceptions.BadRequestException;
+import org.assignment.exceptions.ConflictException;
+import org.assignment.exceptions.InternalServerException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Starts and dumps on-demand JFR recordings with the JDK "default" settings plus {@link CalendarOperationEvent}.
+ * Recordings are bounded in duration and size, and only one runs at a time. Only created when
+ * {@code calendar.diagnostics.recording.enabled=true}; events that capture environment variables, system properties
+ * or JVM arguments (where credentials and JDBC URLs live) are never recorded.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.diagnostics.recording.enabled", havingValue = "true")
+public class FlightRecordingManager {
+    public static final int MAX_DURATION_SECONDS = 300;
+    private static final long MAX_SIZE_BYTES = 64L * 1024 * 1024;
+    static final List<String> EXCLUDED_EVENTS = List.of(
+            "jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty", "jdk.JVMInformation");
+
+    private Recording recording;
+
+    public synchronized RecordingResponse start(int durationSeconds) {
+        if (durationSeconds < 1 || durationSeconds > MAX_DURATION_SECONDS) {
+            throw new BadRequestException("durationSeconds must be between 1 and " + MAX_DURATION_SECONDS);
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new ConflictException("A recording is already running");
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration("default"));
+            started.setName("calendar-on-demand");
+            started.enable(CalendarOperationEvent.class);
+            EXCLUDED_EVENTS.forEach(started::disable);
+            started.setDuration(Duration.ofSeconds(durationSeconds));
+            started.setMaxSize(MAX_SIZE_BYTES);
+            started.setToDisk(true);
+            started.start();
+            recording = started;
+            return status();
+        } catch (IOException | ParseException ex) {
+            throw new InternalServerException("Failed to start flight recording", ex);
+        }
+    }
+
+    /**
+     * Writes the data recorded so far (the recording keeps running until its duration ends) to a temp file.
+     * The caller owns the file and must delete it.
+     */
+    public synchronized Path dump() {
+        if (recording == null || recording.getState() == RecordingState.CLOSED) {
+            throw new BadRequestException("No recording has been started");
+        }
+        try {
+            Path file = Files.createTempFile("calendar-", ".jfr");
+            recording.dump(file);
+            return file;
+        } catch (IOException ex) {
+            throw new InternalServerException("Failed to dump flight recording", ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private RecordingResponse status() {
+        return new RecordingResponse(recording.getId(), recording.getState().name(),
+                recording.getDuration().toSeconds(), recording.getMaxSize());
+    }
+}
@@ -0,0 +1,98 @@
+package org.assignment.diagnostics;
+
+import org.assignment.tenant.TenantContext;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Times the phases of one service operation into a {@link CalendarOperationEvent}.
+ * When no JFR recording enables the event, every method returns after a single boolean check,
+ * so the recorder can stay in the request path in production.
+ */
+public final class OperationRecorder {
+    private static final ThreadLocal<OperationRecorder> CURRENT = new ThreadLocal<>();
+
+    private final CalendarOperationEvent event = new CalendarOperationEvent();
+    private final boolean enabled = event.isEnabled();
+    private long phaseStart;
+
+    private OperationRecorder() {
+    }
+
+    public static OperationRecorder start(String operation, String ownerId) {
+        OperationRecorder recorder = new OperationRecorder();
+        if (recorder.enabled) {
+            recorder.event.operation = operation;
+            recorder.event.tenantId = TenantContext.current();
+            recorder.event.ownerId = ownerId;
+            recorder.event.outcome = "OK";
+            recorder.event.begin();
+            recorder.phaseStart = System.nanoTime();
+            CURRENT.set(recorder);
+        }
+        return recorder;
+    }
+
+    /**
+     * Adds lock wait time to the operation running on this thread, if it is being recorded.
+     * Callers only need to time contended acquisitions.
+     */
+    public static void lockWaited(long nanos) {
+        OperationRecorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.event.lockWaitTime += nanos;
+        }
+    }
+
+    /** Acquires the lock, reporting the wait to the operation running on this thread when it is contended. */
+    public static void lock(ReentrantLock lock) {
+        if (lock.tryLock()) {
+            return;
+        }
+        long waitStart = System.nanoTime();
+        lock.lock();
+        lockWaited(System.nanoTime() - waitStart);
+    }
+
+    /** Ends the validation phase. */
+    public void validated() {
+        if (enabled) {
+            long now = System.nanoTime();
+            event.validationTime += now - phaseStart;
+            phaseStart = now;
+        }
+    }
+
+    /** Ends the store lookup phase; lock wait recorded meanwhile is not counted as lookup time. */
+    public void lookedUp() {
+        if (enabled) {
+            long now = System.nanoTime();
+            event.lookupTime += Math.max(0, now - phaseStart - event.lockWaitTime);
+            phaseStart = now;
+        }
+    }
+
+    public void resultSize(int size) {
+        if (enabled) {
+            event.resultSize = size;
+        }
+    }
+
+    public void outcome(String outcome) {
+        if (enabled) {
+            event.outcome = outcome;
+        }
+    }
+
+    public void failed(Exception ex) {
+        outcome(ex.getClass().getSimpleName());
+    }
+
+    /** Commits the event; call exactly once, in a finally block. */
+    public void finish() {
+        if (enabled) {
+            CURRENT.remove();
+            event.commit();
+        }
+    }
+}
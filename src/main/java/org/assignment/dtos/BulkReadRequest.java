@@ -0,0 +1,20 @@
+package org.assignment.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkReadRequest {
+    private List<String> ownerIds;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate; // inclusive, defaults to today
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;   // inclusive, open-ended when absent
+}
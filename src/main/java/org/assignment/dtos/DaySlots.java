@@ -1,22 +1,29 @@
 package org.assignment.dtos;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonFormat;
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Value;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * One date's bookable start times. Immutable, since coalesced slot searches hand the same instances to every
+ * concurrent caller: the start times are copied into an unmodifiable list on construction.
+ */
+@Value
 public class DaySlots {
     @JsonFormat(pattern = "yyyy-MM-dd")
-    private LocalDate date;
+    LocalDate date;
     @JsonFormat(pattern = "HH:mm")
-    private List<LocalTime> availableStartTimes;
-}
-
+    List<LocalTime> availableStartTimes;
 
+    @JsonCreator
+    public DaySlots(@JsonProperty("date") LocalDate date,
+                    @JsonProperty("availableStartTimes") List<LocalTime> availableStartTimes) {
+        this.date = date;
+        this.availableStartTimes = List.copyOf(availableStartTimes);
+    }
+}
@@ -0,0 +1,22 @@
+package org.assignment.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EarliestSlotsRequest {
+    private List<String> ownerIds; // the pool to route across
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate; // defaults to today
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime fromTime; // inclusive, defaults to 00:00
+    private Integer limit;      // defaults to 10
+}
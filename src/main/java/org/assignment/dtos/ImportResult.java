@@ -0,0 +1,14 @@
+package org.assignment.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResult {
+    private long availabilityDays;
+    private long appointments;
+    private long rejected;
+}
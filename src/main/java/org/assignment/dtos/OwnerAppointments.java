@@ -0,0 +1,15 @@
+package org.assignment.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OwnerAppointments {
+    private String ownerId;
+    private List<AppointmentResponse> appointments;
+}
@@ -0,0 +1,15 @@
+package org.assignment.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingResponse {
+    private long id;
+    private String state;
+    private long durationSeconds;
+    private long maxSizeBytes;
+}
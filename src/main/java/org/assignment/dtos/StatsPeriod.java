@@ -0,0 +1,7 @@
+package org.assignment.dtos;
+
+/** Bucket size of utilization statistics; weeks run Monday to Sunday. */
+public enum StatsPeriod {
+    DAY,
+    WEEK
+}
@@ -0,0 +1,39 @@
+package org.assignment.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One line of a bulk export/import stream: either an owner's remaining available start times for a date
+ * ({@code AVAILABILITY}, uses {@code startTimes}) or one booked appointment ({@code APPOINTMENT}).
+ * An availability line is followed by the appointments booked on that date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransferRecord {
+    public enum Type { AVAILABILITY, APPOINTMENT }
+
+    private Type type;
+    private String ownerId;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    @JsonFormat(pattern = "HH:mm")
+    private List<LocalTime> startTimes;
+    private UUID id;
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;
+    private String inviteeName;
+    private String inviteeEmail;
+}
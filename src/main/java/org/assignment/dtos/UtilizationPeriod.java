@@ -0,0 +1,22 @@
+package org.assignment.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationPeriod {
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate startDate; // inclusive
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate endDate;   // inclusive
+    private int daysWithAvailability;
+    private long booked;         // booked slots
+    private long available;      // slots still open for booking
+    private double utilization;  // booked / (booked + available), 0 without any slots
+}
@@ -0,0 +1,23 @@
+package org.assignment.dtos;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationStats {
+    private String ownerId;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate fromDate;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate toDate;
+    private StatsPeriod period;
+    private UtilizationPeriod total;
+    private List<UtilizationPeriod> periods; // every day or week of the range, in order
+}
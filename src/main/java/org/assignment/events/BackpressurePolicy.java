@@ -0,0 +1,9 @@
+package org.assignment.events;
+
+/** What a publisher does when the ring buffer is full because a sink has fallen behind. */
+public enum BackpressurePolicy {
+    /** Discard the new event and count it; the calling request never waits. */
+    DROP,
+    /** Wait for the slowest sink to free a slot; guarantees delivery but lets a slow sink slow down requests. */
+    BLOCK
+}
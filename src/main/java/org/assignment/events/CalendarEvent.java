@@ -0,0 +1,45 @@
+package org.assignment.events;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A calendar mutation exported to downstream sinks.
+ * Instances are preallocated slots of the {@link EventRingBuffer} and are reused once every sink has consumed them,
+ * so sinks must copy anything they want to keep beyond {@link CalendarEventSink#accept}.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CalendarEvent {
+    private long sequence;
+    private long timestamp; // epoch millis when the mutation was applied
+    private CalendarEventType type;
+    private String tenantId;
+    private String ownerId;
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime; // appointment start, or first available slot
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime endTime;   // appointment end, or end of availability window
+    private UUID appointmentId;
+    private String inviteeName;
+    private String inviteeEmail;
+
+    void clear() {
+        type = null;
+        tenantId = null;
+        ownerId = null;
+        date = null;
+        startTime = null;
+        endTime = null;
+        appointmentId = null;
+        inviteeName = null;
+        inviteeEmail = null;
+    }
+}
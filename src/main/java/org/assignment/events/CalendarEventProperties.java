@@ -0,0 +1,17 @@
+package org.assignment.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "calendar.events")
+public class CalendarEventProperties {
+    private boolean enabled = true;
+    // Ring buffer capacity, rounded up to a power of two.
+    private int bufferSize = 8192;
+    // Maximum number of events handed to a sink per call.
+    private int batchSize = 256;
+    private BackpressurePolicy backpressure = BackpressurePolicy.DROP;
+    // Output file of the default NDJSON sink.
+    private String filePath = "calendar-events.ndjson";
+}
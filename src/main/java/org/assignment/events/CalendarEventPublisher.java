@@ -0,0 +1,157 @@
+package org.assignment.events;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.tenant.TenantContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Exports calendar mutations to the registered {@link CalendarEventSink}s without doing any sink work on the caller's
+ * thread: publishing only fills a preallocated ring buffer slot, and one background thread per sink drains it in batches.
+ */
+@Slf4j
+@Component
+public class CalendarEventPublisher {
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final CalendarEventProperties properties;
+    private final List<CalendarEventSink> sinks;
+    private final MeterRegistry meterRegistry;
+    private final EventRingBuffer ringBuffer;
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong sinkFailures = new AtomicLong();
+    private final List<Thread> consumers = new ArrayList<>();
+    private volatile boolean running;
+
+    public CalendarEventPublisher(CalendarEventProperties properties, List<CalendarEventSink> sinks, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sinks = List.copyOf(sinks);
+        this.meterRegistry = meterRegistry;
+        this.ringBuffer = new EventRingBuffer(properties.getBufferSize(), this.sinks.size());
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled() || sinks.isEmpty()) {
+            return;
+        }
+        Gauge.builder("calendar.events.published", publishedCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("calendar.events.dropped", droppedCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("calendar.events.sink.failures", sinkFailures, AtomicLong::get).register(meterRegistry);
+        running = true;
+        for (int i = 0; i < sinks.size(); i++) {
+            int consumer = i;
+            CalendarEventSink sink = sinks.get(i);
+            Gauge.builder("calendar.events.lag", ringBuffer, rb -> rb.lag(consumer))
+                    .tag("sink", sink.name())
+                    .register(meterRegistry);
+            Thread thread = new Thread(() -> consume(consumer, sink), "calendar-events-" + sink.name());
+            thread.setDaemon(true);
+            thread.start();
+            consumers.add(thread);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread thread : consumers) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public void publishAvailabilitySet(String ownerId, LocalDate date, LocalTime start, LocalTime end) {
+        publish(event -> {
+            event.setType(CalendarEventType.AVAILABILITY_SET);
+            event.setOwnerId(ownerId);
+            event.setDate(date);
+            event.setStartTime(start);
+            event.setEndTime(end);
+        });
+    }
+
+    public void publishAppointmentBooked(AppointmentResponse appointment) {
+        publish(event -> {
+            event.setType(CalendarEventType.APPOINTMENT_BOOKED);
+            event.setOwnerId(appointment.getOwnerId());
+            event.setDate(appointment.getDate());
+            event.setStartTime(appointment.getStartTime());
+            event.setEndTime(appointment.getEndTime());
+            event.setAppointmentId(appointment.getId());
+            event.setInviteeName(appointment.getInviteeName());
+            event.setInviteeEmail(appointment.getInviteeEmail());
+        });
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void publish(Consumer<CalendarEvent> translator) {
+        if (!running) {
+            return;
+        }
+        long sequence = ringBuffer.tryClaim();
+        while (sequence < 0) {
+            if (properties.getBackpressure() == BackpressurePolicy.DROP || !running) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+            sequence = ringBuffer.tryClaim();
+        }
+        CalendarEvent event = ringBuffer.slot(sequence);
+        event.clear();
+        event.setSequence(sequence);
+        event.setTimestamp(System.currentTimeMillis());
+        event.setTenantId(TenantContext.current());
+        translator.accept(event);
+        ringBuffer.publish(sequence);
+        publishedCount.incrementAndGet();
+    }
+
+    private void consume(int consumer, CalendarEventSink sink) {
+        List<CalendarEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (true) {
+            batch.clear();
+            int count = ringBuffer.drain(consumer, properties.getBatchSize(), batch);
+            if (count == 0) {
+                if (!running) {
+                    break;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                sink.accept(batch);
+            } catch (Exception ex) {
+                sinkFailures.incrementAndGet();
+                log.warn("Calendar event sink {} failed on a batch of {} events", sink.name(), count, ex);
+            }
+            ringBuffer.release(consumer, count);
+        }
+        try {
+            sink.close();
+        } catch (Exception ex) {
+            log.warn("Failed to close calendar event sink {}", sink.name(), ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.assignment.events;
+
+import java.util.List;
+
+/**
+ * Downstream consumer of calendar events (audit, email, analytics...). Every sink bean gets its own consumer thread
+ * and receives events in order, in batches of up to {@code calendar.events.batch-size}.
+ */
+public interface CalendarEventSink {
+
+    /** Name used for the consumer thread and lag metrics. */
+    String name();
+
+    /** Handles one batch. The events are reused after this returns and must not be retained. */
+    void accept(List<CalendarEvent> batch) throws Exception;
+
+    /** Called once when the pipeline stops, after the last batch. */
+    default void close() throws Exception {
+    }
+}
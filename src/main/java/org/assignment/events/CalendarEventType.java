@@ -0,0 +1,6 @@
+package org.assignment.events;
+
+public enum CalendarEventType {
+    AVAILABILITY_SET,
+    APPOINTMENT_BOOKED
+}
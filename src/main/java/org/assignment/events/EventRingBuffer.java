@@ -0,0 +1,92 @@
+package org.assignment.events;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, multi-consumer ring of preallocated {@link CalendarEvent} slots.
+ * Producers claim a sequence with a CAS, fill the slot in place and mark it published; no locks are taken.
+ * Each consumer tracks its own sequence and a slot is only reused once every consumer has moved past it.
+ */
+class EventRingBuffer {
+    private final CalendarEvent[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong[] consumerSequences;
+
+    EventRingBuffer(int requestedCapacity, int consumers) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.entries = new CalendarEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            entries[i] = new CalendarEvent();
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.consumerSequences = new AtomicLong[consumers];
+        for (int i = 0; i < consumers; i++) {
+            consumerSequences[i] = new AtomicLong(-1);
+        }
+    }
+
+    int capacity() {
+        return entries.length;
+    }
+
+    /** Claims the next slot, or returns -1 when the slowest consumer is a full ring behind. */
+    long tryClaim() {
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            if (next - entries.length > minConsumerSequence()) {
+                return -1;
+            }
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    CalendarEvent slot(long sequence) {
+        return entries[(int) sequence & mask];
+    }
+
+    /** Makes a filled slot visible to consumers. */
+    void publish(long sequence) {
+        published.set((int) sequence & mask, sequence);
+    }
+
+    /**
+     * Adds consecutive published events after the consumer's position to {@code out}, up to {@code max}.
+     * The consumer must call {@link #release} once it is done with them.
+     */
+    int drain(int consumer, int max, List<CalendarEvent> out) {
+        long next = consumerSequences[consumer].get() + 1;
+        int count = 0;
+        while (count < max && published.get((int) next & mask) == next) {
+            out.add(entries[(int) next & mask]);
+            next++;
+            count++;
+        }
+        return count;
+    }
+
+    void release(int consumer, int count) {
+        consumerSequences[consumer].addAndGet(count);
+    }
+
+    /** Number of claimed events the given consumer has not processed yet. */
+    long lag(int consumer) {
+        return claimed.get() - consumerSequences[consumer].get();
+    }
+
+    private long minConsumerSequence() {
+        long min = Long.MAX_VALUE;
+        for (AtomicLong sequence : consumerSequences) {
+            min = Math.min(min, sequence.get());
+        }
+        return min;
+    }
+}
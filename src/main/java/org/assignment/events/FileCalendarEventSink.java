@@ -0,0 +1,60 @@
+package org.assignment.events;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Default sink: appends every event as one JSON line to {@code calendar.events.file-path}. Events are serialized
+ * straight into the file buffer through one generator, which is flushed once per batch.
+ */
+@Component
+public class FileCalendarEventSink implements CalendarEventSink {
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter eventWriter;
+    private final Path path;
+    private JsonGenerator generator;
+
+    public FileCalendarEventSink(ObjectMapper objectMapper, CalendarEventProperties properties) {
+        this.objectMapper = objectMapper;
+        this.eventWriter = objectMapper.writerFor(CalendarEvent.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.path = Path.of(properties.getFilePath());
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public void accept(List<CalendarEvent> batch) throws IOException {
+        if (generator == null) {
+            generator = objectMapper.getFactory().createGenerator(new BufferedOutputStream(
+                    Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND), BUFFER_BYTES));
+            generator.setRootValueSeparator(null);
+        }
+        for (CalendarEvent event : batch) {
+            eventWriter.writeValue(generator, event);
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.assignment.repository;
+
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.utils.StringPool;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One owner's appointments as parallel primitive arrays sorted by (date, start): about 32 bytes per appointment
+ * instead of a DTO with its own date, time, UUID and string objects. The owner is implicit, the date is stored as
+ * an epoch day, the start as its slot index (hour), and invitee name/email as {@link StringPool} handles.
+ * {@link AppointmentResponse} objects are only built by {@link #readFrom}. Not thread-safe; callers hold the owner's lock.
+ */
+final class AppointmentTable {
+    private static final int SLOT_BITS = 5;
+    private static final int APPOINTMENT_MINUTES = 60;
+
+    // (epochDay << SLOT_BITS | slot), ascending
+    private long[] keys = new long[4];
+    private long[] idHigh = new long[4];
+    private long[] idLow = new long[4];
+    private int[] names = new int[4];
+    private int[] emails = new int[4];
+    private int size;
+
+    /** Inserts the appointment at its sorted position; false if its date and start are already taken. */
+    boolean add(AppointmentResponse appointment, StringPool invitees) {
+        long key = key(appointment.getDate().toEpochDay(), appointment.getStartTime().getHour());
+        int pos = Arrays.binarySearch(keys, 0, size, key);
+        if (pos >= 0) {
+            return false;
+        }
+        pos = -pos - 1;
+        if (size == keys.length) {
+            grow();
+        }
+        int tail = size - pos;
+        System.arraycopy(keys, pos, keys, pos + 1, tail);
+        System.arraycopy(idHigh, pos, idHigh, pos + 1, tail);
+        System.arraycopy(idLow, pos, idLow, pos + 1, tail);
+        System.arraycopy(names, pos, names, pos + 1, tail);
+        System.arraycopy(emails, pos, emails, pos + 1, tail);
+        keys[pos] = key;
+        idHigh[pos] = appointment.getId().getMostSignificantBits();
+        idLow[pos] = appointment.getId().getLeastSignificantBits();
+        names[pos] = invitees.intern(appointment.getInviteeName());
+        emails[pos] = invitees.intern(appointment.getInviteeEmail());
+        size++;
+        return true;
+    }
+
+    boolean contains(LocalDate date, LocalTime start) {
+        return Arrays.binarySearch(keys, 0, size, key(date.toEpochDay(), start.getHour())) >= 0;
+    }
+
+    boolean hasDate(LocalDate date) {
+        int pos = lowerBound(key(date.toEpochDay(), 0));
+        return pos < size && keys[pos] >> SLOT_BITS == date.toEpochDay();
+    }
+
+    /** Appends appointments on or after {@code fromInclusive}, ordered by date then start time. */
+    void readFrom(String ownerId, LocalDate fromInclusive, StringPool invitees, List<AppointmentResponse> out) {
+        for (int i = lowerBound(key(fromInclusive.toEpochDay(), 0)); i < size; i++) {
+            LocalTime start = LocalTime.of((int) (keys[i] & ((1 << SLOT_BITS) - 1)), 0);
+            out.add(new AppointmentResponse(new UUID(idHigh[i], idLow[i]), ownerId,
+                    LocalDate.ofEpochDay(keys[i] >> SLOT_BITS), start, start.plusMinutes(APPOINTMENT_MINUTES),
+                    invitees.get(names[i]), invitees.get(emails[i])));
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int lowerBound(long key) {
+        int pos = Arrays.binarySearch(keys, 0, size, key);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    private void grow() {
+        int capacity = size + (size >> 1);
+        keys = Arrays.copyOf(keys, capacity);
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        names = Arrays.copyOf(names, capacity);
+        emails = Arrays.copyOf(emails, capacity);
+    }
+
+    private static long key(long epochDay, int slot) {
+        return epochDay << SLOT_BITS | slot;
+    }
+}
@@ -0,0 +1,14 @@
+package org.assignment.repository;
+
+import java.util.List;
+
+/** Creates the isolated storage of one tenant, for {@link PartitionedCalendarRepository}. */
+public interface CalendarPartitionFactory {
+
+    CalendarRepository create(String tenantId);
+
+    /** Tenants whose data outlives the process and already exists in this backend; none for in-memory storage. */
+    default List<String> storedTenants() {
+        return List.of();
+    }
+}
@@ -0,0 +1,60 @@
+package org.assignment.repository;
+
+import org.assignment.dtos.AppointmentResponse;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.function.Consumer;
+
+/**
+ * Storage for owner availability and booked appointments, used by the calendar service.
+ * Implementations make {@link #replaceAvailability} and {@link #book} atomic per owner and date, so availability
+ * cannot change under a booked appointment and a slot can be booked only once.
+ */
+public interface CalendarRepository {
+
+    /**
+     * Replaces the owner's available start times for the date.
+     * @return false, without changing anything, when an appointment already exists for that date
+     */
+    boolean replaceAvailability(String ownerId, LocalDate date, List<LocalTime> startTimes);
+
+    /** Available start times for the date, or null when no availability was ever set for it. */
+    NavigableSet<LocalTime> findAvailability(String ownerId, LocalDate date);
+
+    /**
+     * Whether availability was ever set for the owner's date. Unlike {@link #findAvailability} it does not load the
+     * day's slots, so backends with tiered storage answer without moving the day onto the heap.
+     */
+    boolean hasAvailability(String ownerId, LocalDate date);
+
+    /** All of the owner's dates with availability, sorted by date. */
+    NavigableMap<LocalDate, List<LocalTime>> findAllAvailability(String ownerId);
+
+    /**
+     * Records the appointment and removes its start time from availability.
+     * @return false when the start time is no longer available
+     */
+    boolean book(AppointmentResponse appointment);
+
+    /** The owner's appointments on or after the given date, sorted by date then start time. */
+    List<AppointmentResponse> findAppointmentsFrom(String ownerId, LocalDate fromInclusive);
+
+    /**
+     * Booked and available slot counts of the owner's dates with availability between the dates (both inclusive),
+     * in date order. Takes time proportional to the range, not to the owner's stored appointments.
+     */
+    List<DayCount> findDayCounts(String ownerId, LocalDate fromInclusive, LocalDate toInclusive);
+
+    /**
+     * Passes every owner with availability to {@code action}, one at a time, without collecting them all first.
+     * The action may read this repository, so no storage resource such as a pooled connection is held while it runs.
+     */
+    void forEachOwner(Consumer<String> action);
+
+    /** Current size, checked against tenant quotas and exported as per-tenant metrics. */
+    StorageUsage usage();
+}
@@ -0,0 +1,7 @@
+package org.assignment.repository;
+
+import java.time.LocalDate;
+
+/** Booked and still-available slot counts of one owner-date with availability. */
+public record DayCount(LocalDate date, int booked, int available) {
+}
@@ -0,0 +1,71 @@
+package org.assignment.repository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One owner's booked/available slot counts per date, kept current by replace and book instead of being recounted.
+ * Dates are grouped in blocks of 32 consecutive epoch days, one packed int per day, so reading a range costs one
+ * map lookup per block plus one array read per day, independent of how much else the owner stores.
+ * Not thread-safe; callers hold the owner's lock.
+ */
+final class DayCounters {
+    private static final int BLOCK_SHIFT = 5;
+    private static final int BLOCK_DAYS = 1 << BLOCK_SHIFT;
+    // Marks a day with availability, so a fully booked day is distinguishable from an unset one
+    private static final int PRESENT = 1 << 31;
+    private static final int COUNT_BITS = 8;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+
+    private final Map<Long, int[]> blocks = new HashMap<>();
+
+    /** Sets the date's counts; returns true when this allocated a new block. */
+    boolean set(LocalDate date, int booked, int available) {
+        long day = date.toEpochDay();
+        int[] block = blocks.get(day >> BLOCK_SHIFT);
+        boolean allocated = block == null;
+        if (allocated) {
+            block = new int[BLOCK_DAYS];
+            blocks.put(day >> BLOCK_SHIFT, block);
+        }
+        block[(int) (day & (BLOCK_DAYS - 1))] = PRESENT | booked << COUNT_BITS | available;
+        return allocated;
+    }
+
+    /** Moves one slot of the date from available to booked. */
+    void book(LocalDate date) {
+        long day = date.toEpochDay();
+        int[] block = blocks.get(day >> BLOCK_SHIFT);
+        int index = (int) (day & (BLOCK_DAYS - 1));
+        int packed = block[index];
+        block[index] = PRESENT | (booked(packed) + 1) << COUNT_BITS | (available(packed) - 1);
+    }
+
+    /** Appends the counts of dates with availability between the dates (both inclusive), in date order. */
+    void read(LocalDate fromInclusive, LocalDate toInclusive, List<DayCount> out) {
+        long to = toInclusive.toEpochDay();
+        for (long day = fromInclusive.toEpochDay(); day <= to; ) {
+            int[] block = blocks.get(day >> BLOCK_SHIFT);
+            long blockEnd = Math.min(to, (day | (BLOCK_DAYS - 1)));
+            if (block != null) {
+                for (long d = day; d <= blockEnd; d++) {
+                    int packed = block[(int) (d & (BLOCK_DAYS - 1))];
+                    if (packed != 0) {
+                        out.add(new DayCount(LocalDate.ofEpochDay(d), booked(packed), available(packed)));
+                    }
+                }
+            }
+            day = blockEnd + 1;
+        }
+    }
+
+    private static int booked(int packed) {
+        return packed >>> COUNT_BITS & COUNT_MASK;
+    }
+
+    private static int available(int packed) {
+        return packed & COUNT_MASK;
+    }
+}
@@ -0,0 +1,158 @@
+package org.assignment.repository;
+
+import org.assignment.diagnostics.OperationRecorder;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.store.TieredAvailabilityStore;
+import org.assignment.utils.StringPool;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Process-local repository: availability lives in the {@link TieredAvailabilityStore}, appointments in compact
+ * per-owner {@link AppointmentTable}s. Each owner has one lock that guards its table and makes replace/book atomic
+ * with the availability update, and keeps the owner's per-date {@link DayCounters} in step with both. One instance holds one tenant's partition, see {@link InMemoryPartitionFactory}.
+ */
+public class InMemoryCalendarRepository implements CalendarRepository {
+    // Heap estimates for quotas: a hot day with a typical 8 slots, one appointment's table record as measured by
+    // AppointmentFootprintReport with a single invitee (the invitee pool is counted separately, by its own estimate),
+    // and one 32-day block of counters with its map entry
+    static final long HOT_DAY_BYTES = 480;
+    static final long APPOINTMENT_BYTES = 34;
+    static final long COUNTER_BLOCK_BYTES = 200;
+
+    private final TieredAvailabilityStore availabilityStore;
+    private final AtomicLong appointmentCount = new AtomicLong();
+    private final AtomicLong counterBlockCount = new AtomicLong();
+
+    //Map of owner id to that owner's booked appointments; the key is the one owner id string returned DTOs share.
+    private final Map<String, OwnerAppointments> appointmentsByOwner = new ConcurrentHashMap<>();
+    //Invitee names and emails, shared across owners; never released, and charged to usage() as it grows.
+    private final StringPool invitees = new StringPool();
+
+    public InMemoryCalendarRepository(TieredAvailabilityStore availabilityStore) {
+        this.availabilityStore = availabilityStore;
+    }
+
+    @Override
+    public boolean replaceAvailability(String ownerId, LocalDate date, List<LocalTime> startTimes) {
+        OwnerAppointments owner = owner(ownerId);
+        lock(owner);
+        try {
+            if (owner.appointments.hasDate(date)) {
+                return false;
+            }
+            availabilityStore.put(ownerId, date, startTimes);
+            if (owner.dayCounters.set(date, 0, startTimes.size())) {
+                counterBlockCount.incrementAndGet();
+            }
+            return true;
+        } finally {
+            owner.lock.unlock();
+        }
+    }
+
+    @Override
+    public NavigableSet<LocalTime> findAvailability(String ownerId, LocalDate date) {
+        return availabilityStore.get(ownerId, date);
+    }
+
+    @Override
+    public boolean hasAvailability(String ownerId, LocalDate date) {
+        return availabilityStore.contains(ownerId, date);
+    }
+
+    @Override
+    public NavigableMap<LocalDate, List<LocalTime>> findAllAvailability(String ownerId) {
+        return availabilityStore.snapshot(ownerId);
+    }
+
+    @Override
+    public boolean book(AppointmentResponse appointment) {
+        OwnerAppointments owner = owner(appointment.getOwnerId());
+        lock(owner);
+        try {
+            // Check the table before taking the slot, so a refused booking never removes availability
+            if (owner.appointments.contains(appointment.getDate(), appointment.getStartTime())
+                    || !availabilityStore.removeSlot(appointment.getOwnerId(), appointment.getDate(), appointment.getStartTime())) {
+                return false;
+            }
+            owner.appointments.add(appointment, invitees);
+            owner.dayCounters.book(appointment.getDate());
+            appointmentCount.incrementAndGet();
+            return true;
+        } finally {
+            owner.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<AppointmentResponse> findAppointmentsFrom(String ownerId, LocalDate fromInclusive) {
+        OwnerAppointments owner = appointmentsByOwner.get(ownerId);
+        if (owner == null) {
+            return new ArrayList<>();
+        }
+        List<AppointmentResponse> result = new ArrayList<>();
+        lock(owner);
+        try {
+            owner.appointments.readFrom(owner.ownerId, fromInclusive, invitees, result);
+        } finally {
+            owner.lock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public List<DayCount> findDayCounts(String ownerId, LocalDate fromInclusive, LocalDate toInclusive) {
+        OwnerAppointments owner = appointmentsByOwner.get(ownerId);
+        List<DayCount> result = new ArrayList<>();
+        if (owner == null) {
+            return result;
+        }
+        lock(owner);
+        try {
+            owner.dayCounters.read(fromInclusive, toInclusive, result);
+        } finally {
+            owner.lock.unlock();
+        }
+        return result;
+    }
+
+    @Override
+    public void forEachOwner(Consumer<String> action) {
+        availabilityStore.forEachOwner(action);
+    }
+
+    @Override
+    public StorageUsage usage() {
+        long appointments = appointmentCount.get();
+        return new StorageUsage(availabilityStore.hotDays() + availabilityStore.coldDays(), appointments,
+                availabilityStore.hotDays() * HOT_DAY_BYTES + availabilityStore.coldBytes() + appointments * APPOINTMENT_BYTES
+                        + counterBlockCount.get() * COUNTER_BLOCK_BYTES + invitees.estimatedBytes());
+    }
+
+    /** Acquires the owner's lock, reporting the wait to the JFR operation event when contended. */
+    private static void lock(OwnerAppointments owner) {
+        OperationRecorder.lock(owner.lock);
+    }
+
+    private OwnerAppointments owner(String ownerId) {
+        return appointmentsByOwner.computeIfAbsent(ownerId, OwnerAppointments::new);
+    }
+
+    private static final class OwnerAppointments {
+        private final String ownerId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AppointmentTable appointments = new AppointmentTable();
+        private final DayCounters dayCounters = new DayCounters();
+
+        private OwnerAppointments(String ownerId) {
+            this.ownerId = ownerId;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.assignment.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.assignment.store.TieredAvailabilityStore;
+import org.assignment.store.TieredStoreProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Gives each tenant its own {@link InMemoryCalendarRepository} over its own {@link TieredAvailabilityStore}, so one
+ * tenant's data never shares maps, locks or cold file with another's. Rebalances all stores on one schedule.
+ */
+@Component
+@ConditionalOnProperty(name = "calendar.repository", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPartitionFactory implements CalendarPartitionFactory {
+    private final TieredStoreProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final List<TieredAvailabilityStore> stores = new CopyOnWriteArrayList<>();
+
+    public InMemoryPartitionFactory(TieredStoreProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CalendarRepository create(String tenantId) {
+        TieredAvailabilityStore store = new TieredAvailabilityStore(properties, meterRegistry, tenantId);
+        stores.add(store);
+        return new InMemoryCalendarRepository(store);
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.store.rebalance-interval-ms:300000}")
+    public void rebalance() {
+        for (TieredAvailabilityStore store : stores) {
+            store.rebalance();
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        for (TieredAvailabilityStore store : stores) {
+            store.close();
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package org.assignment.repository;
+
+import org.assignment.dtos.AppointmentResponse;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * JDBC-backed repository (see db/calendar-schema.sql). Writes run in one transaction that first locks the owner-date
+ * row, which serializes replace and book for the same date; the unique (owner, date, start) constraint on appointments
+ * is the final guard against double booking. Slot rows are written with a single JDBC batch.
+ * One instance serves one tenant: every statement is scoped by its {@code tenant_id}, and the partitions share the
+ * tables. Created per tenant by the factory {@link org.assignment.config.JdbcRepositoryConfig} wires when
+ * {@code calendar.repository=jdbc}.
+ */
+public class JdbcCalendarRepository implements CalendarRepository {
+    private static final int OWNER_PAGE_SIZE = 1_000;
+    private static final String LOCK_DAY =
+            "SELECT owner_id FROM availability_day WHERE tenant_id = ? AND owner_id = ? AND slot_date = ? FOR UPDATE";
+    private static final String INSERT_DAY =
+            "INSERT INTO availability_day (tenant_id, owner_id, slot_date) VALUES (?, ?, ?)";
+    private static final String COUNT_DAY =
+            "SELECT COUNT(*) FROM availability_day WHERE tenant_id = ? AND owner_id = ? AND slot_date = ?";
+    private static final String COUNT_APPOINTMENTS_FOR_DAY =
+            "SELECT COUNT(*) FROM appointment WHERE tenant_id = ? AND owner_id = ? AND appt_date = ?";
+    private static final String DELETE_DAY_SLOTS =
+            "DELETE FROM availability_slot WHERE tenant_id = ? AND owner_id = ? AND slot_date = ?";
+    private static final String INSERT_SLOT =
+            "INSERT INTO availability_slot (tenant_id, owner_id, slot_date, start_time) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_SLOT =
+            "DELETE FROM availability_slot WHERE tenant_id = ? AND owner_id = ? AND slot_date = ? AND start_time = ?";
+    private static final String SELECT_DAY_SLOTS =
+            "SELECT d.slot_date, s.start_time FROM availability_day d"
+                    + " LEFT JOIN availability_slot s"
+                    + " ON s.tenant_id = d.tenant_id AND s.owner_id = d.owner_id AND s.slot_date = d.slot_date"
+                    + " WHERE d.tenant_id = ? AND d.owner_id = ? AND d.slot_date = ? ORDER BY s.start_time";
+    private static final String SELECT_OWNER_SLOTS =
+            "SELECT d.slot_date, s.start_time FROM availability_day d"
+                    + " LEFT JOIN availability_slot s"
+                    + " ON s.tenant_id = d.tenant_id AND s.owner_id = d.owner_id AND s.slot_date = d.slot_date"
+                    + " WHERE d.tenant_id = ? AND d.owner_id = ? ORDER BY d.slot_date, s.start_time";
+    private static final String INSERT_APPOINTMENT =
+            "INSERT INTO appointment (id, tenant_id, owner_id, appt_date, start_time, end_time, invitee_name, invitee_email)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_APPOINTMENTS_FROM =
+            "SELECT id, owner_id, appt_date, start_time, end_time, invitee_name, invitee_email FROM appointment"
+                    + " WHERE tenant_id = ? AND owner_id = ? AND appt_date >= ? ORDER BY appt_date, start_time";
+    // Keyset paging: each page starts after the last owner id of the previous one
+    private static final String SELECT_OWNERS_AFTER =
+            "SELECT DISTINCT owner_id FROM availability_day WHERE tenant_id = ? AND owner_id > ? ORDER BY owner_id LIMIT ?";
+    // Both aggregates read only the owner's index range for the dates
+    private static final String SELECT_AVAILABLE_COUNTS =
+            "SELECT d.slot_date, COUNT(s.start_time) FROM availability_day d"
+                    + " LEFT JOIN availability_slot s"
+                    + " ON s.tenant_id = d.tenant_id AND s.owner_id = d.owner_id AND s.slot_date = d.slot_date"
+                    + " WHERE d.tenant_id = ? AND d.owner_id = ? AND d.slot_date BETWEEN ? AND ?"
+                    + " GROUP BY d.slot_date ORDER BY d.slot_date";
+    private static final String SELECT_BOOKED_COUNTS =
+            "SELECT appt_date, COUNT(*) FROM appointment"
+                    + " WHERE tenant_id = ? AND owner_id = ? AND appt_date BETWEEN ? AND ? GROUP BY appt_date";
+    private static final String COUNT_DAYS =
+            "SELECT COUNT(*) FROM availability_day WHERE tenant_id = ?";
+    private static final String COUNT_APPOINTMENTS =
+            "SELECT COUNT(*) FROM appointment WHERE tenant_id = ?";
+
+    private static final RowMapper<AppointmentResponse> APPOINTMENT_MAPPER = (rs, rowNum) -> new AppointmentResponse(
+            rs.getObject("id", UUID.class),
+            rs.getString("owner_id"),
+            rs.getDate("appt_date").toLocalDate(),
+            rs.getTime("start_time").toLocalTime(),
+            rs.getTime("end_time").toLocalTime(),
+            rs.getString("invitee_name"),
+            rs.getString("invitee_email"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String tenantId;
+    // Sizes for quota checks, counted once at startup and kept current by this instance's own writes
+    private final AtomicLong dayCount;
+    private final AtomicLong appointmentCount;
+
+    public JdbcCalendarRepository(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, String tenantId) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.tenantId = tenantId;
+        this.dayCount = new AtomicLong(count(COUNT_DAYS));
+        this.appointmentCount = new AtomicLong(count(COUNT_APPOINTMENTS));
+    }
+
+    @Override
+    public boolean replaceAvailability(String ownerId, LocalDate date, List<LocalTime> startTimes) {
+        Date sqlDate = Date.valueOf(date);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            boolean created = false;
+            if (jdbcTemplate.queryForList(LOCK_DAY, String.class, tenantId, ownerId, sqlDate).isEmpty()) {
+                try {
+                    jdbcTemplate.update(INSERT_DAY, tenantId, ownerId, sqlDate);
+                    created = true;
+                } catch (DuplicateKeyException ex) {
+                    // Created concurrently; lock the existing row instead
+                    jdbcTemplate.queryForList(LOCK_DAY, String.class, tenantId, ownerId, sqlDate);
+                }
+            }
+            Integer booked = jdbcTemplate.queryForObject(COUNT_APPOINTMENTS_FOR_DAY, Integer.class, tenantId, ownerId, sqlDate);
+            if (booked != null && booked > 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            jdbcTemplate.update(DELETE_DAY_SLOTS, tenantId, ownerId, sqlDate);
+            jdbcTemplate.batchUpdate(INSERT_SLOT, startTimes, startTimes.size(), (PreparedStatement ps, LocalTime start) -> {
+                ps.setString(1, tenantId);
+                ps.setString(2, ownerId);
+                ps.setDate(3, sqlDate);
+                ps.setTime(4, Time.valueOf(start));
+            });
+            if (created) {
+                dayCount.incrementAndGet();
+            }
+            return true;
+        }));
+    }
+
+    @Override
+    public NavigableSet<LocalTime> findAvailability(String ownerId, LocalDate date) {
+        NavigableMap<LocalDate, List<LocalTime>> byDate = new TreeMap<>();
+        jdbcTemplate.query(SELECT_DAY_SLOTS, rs -> {
+            addSlot(byDate, rs.getDate(1), rs.getTime(2));
+        }, tenantId, ownerId, Date.valueOf(date));
+        List<LocalTime> slots = byDate.get(date);
+        return slots == null ? null : new TreeSet<>(slots);
+    }
+
+    @Override
+    public boolean hasAvailability(String ownerId, LocalDate date) {
+        Integer days = jdbcTemplate.queryForObject(COUNT_DAY, Integer.class, tenantId, ownerId, Date.valueOf(date));
+        return days != null && days > 0;
+    }
+
+    @Override
+    public NavigableMap<LocalDate, List<LocalTime>> findAllAvailability(String ownerId) {
+        NavigableMap<LocalDate, List<LocalTime>> byDate = new TreeMap<>();
+        jdbcTemplate.query(SELECT_OWNER_SLOTS, rs -> {
+            addSlot(byDate, rs.getDate(1), rs.getTime(2));
+        }, tenantId, ownerId);
+        return byDate;
+    }
+
+    @Override
+    public boolean book(AppointmentResponse appointment) {
+        Date sqlDate = Date.valueOf(appointment.getDate());
+        Time sqlStart = Time.valueOf(appointment.getStartTime());
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (jdbcTemplate.queryForList(LOCK_DAY, String.class, tenantId, appointment.getOwnerId(), sqlDate).isEmpty()) {
+                return false;
+            }
+            if (jdbcTemplate.update(DELETE_SLOT, tenantId, appointment.getOwnerId(), sqlDate, sqlStart) == 0) {
+                return false;
+            }
+            try {
+                jdbcTemplate.update(INSERT_APPOINTMENT, appointment.getId(), tenantId, appointment.getOwnerId(), sqlDate,
+                        sqlStart, Time.valueOf(appointment.getEndTime()), appointment.getInviteeName(),
+                        appointment.getInviteeEmail());
+            } catch (DuplicateKeyException ex) {
+                status.setRollbackOnly();
+                return false;
+            }
+            appointmentCount.incrementAndGet();
+            return true;
+        }));
+    }
+
+    @Override
+    public List<AppointmentResponse> findAppointmentsFrom(String ownerId, LocalDate fromInclusive) {
+        return jdbcTemplate.query(SELECT_APPOINTMENTS_FROM, APPOINTMENT_MAPPER, tenantId, ownerId,
+                Date.valueOf(fromInclusive));
+    }
+
+    @Override
+    public List<DayCount> findDayCounts(String ownerId, LocalDate fromInclusive, LocalDate toInclusive) {
+        Date from = Date.valueOf(fromInclusive);
+        Date to = Date.valueOf(toInclusive);
+        Map<LocalDate, Integer> booked = new HashMap<>();
+        jdbcTemplate.query(SELECT_BOOKED_COUNTS, (RowCallbackHandler) rs ->
+                booked.put(rs.getDate(1).toLocalDate(), rs.getInt(2)), tenantId, ownerId, from, to);
+        return jdbcTemplate.query(SELECT_AVAILABLE_COUNTS, (rs, rowNum) -> {
+            LocalDate date = rs.getDate(1).toLocalDate();
+            return new DayCount(date, booked.getOrDefault(date, 0), rs.getInt(2));
+        }, tenantId, ownerId, from, to);
+    }
+
+    @Override
+    public void forEachOwner(Consumer<String> action) {
+        // Each page is read and its connection returned before the action runs, so an action that reads the
+        // repository itself (as export does, per owner) never needs a second connection while holding one
+        String after = "";
+        List<String> page;
+        do {
+            page = jdbcTemplate.queryForList(SELECT_OWNERS_AFTER, String.class, tenantId, after, OWNER_PAGE_SIZE);
+            page.forEach(action);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == OWNER_PAGE_SIZE);
+    }
+
+    // Rows live in the database, so no heap estimate
+    @Override
+    public StorageUsage usage() {
+        return new StorageUsage(dayCount.get(), appointmentCount.get(), 0);
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, tenantId);
+        return count == null ? 0 : count;
+    }
+
+    private static void addSlot(NavigableMap<LocalDate, List<LocalTime>> byDate, Date date, Time start) {
+        List<LocalTime> slots = byDate.computeIfAbsent(date.toLocalDate(), d -> new ArrayList<>());
+        if (start != null) {
+            slots.add(start.toLocalTime());
+        }
+    }
+}
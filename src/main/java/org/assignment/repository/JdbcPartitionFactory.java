@@ -0,0 +1,34 @@
+package org.assignment.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Gives each tenant a {@link JdbcCalendarRepository} over the shared pool and tables, scoped by its tenant id.
+ * Tenants with rows from an earlier run are reported by {@link #storedTenants()}, so their partitions are opened
+ * at startup rather than on their first write. Wired by {@link org.assignment.config.JdbcRepositoryConfig}.
+ */
+public class JdbcPartitionFactory implements CalendarPartitionFactory {
+    private static final String SELECT_TENANTS = "SELECT DISTINCT tenant_id FROM availability_day";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcPartitionFactory(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public CalendarRepository create(String tenantId) {
+        return new JdbcCalendarRepository(jdbcTemplate, transactionTemplate, tenantId);
+    }
+
+    // Appointments always belong to a stored owner-date, so the day rows name every tenant with data
+    @Override
+    public List<String> storedTenants() {
+        return jdbcTemplate.queryForList(SELECT_TENANTS, String.class);
+    }
+}
@@ -0,0 +1,173 @@
+package org.assignment.repository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.exceptions.QuotaExceededException;
+import org.assignment.tenant.TenantContext;
+import org.assignment.tenant.TenantProperties;
+import org.assignment.tenant.TenantQuotas;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * The repository the service uses: routes every call to the partition of the current thread's tenant
+ * ({@link TenantContext}), so each tenant has its own owner namespace and storage. Partitions are created by the
+ * backend's {@link CalendarPartitionFactory} on a tenant's first write, or at startup for tenants whose data the backend
+ * already holds ({@link CalendarPartitionFactory#storedTenants()}); reads of a tenant without one see no data.
+ * At most {@code calendar.tenants.max-tenants} partitions are created.
+ * Writes that may grow a partition with quotas ({@link TenantQuotas}) first reserve their entry: the partition's
+ * in-flight counter is incremented before usage is read and released once the write is done, so N concurrent
+ * writers see each other and cannot together overshoot the quota. A failed write simply releases its reservation.
+ * The partition count is exported as {@code calendar.tenants}, and each partition's size as {@code calendar.tenant.days}, {@code .appointments} and {@code .bytes}.
+ */
+@Repository
+public class PartitionedCalendarRepository implements CalendarRepository {
+    private final CalendarPartitionFactory partitionFactory;
+    private final TenantProperties properties;
+    private final TenantQuotas tenantQuotas;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+
+    public PartitionedCalendarRepository(CalendarPartitionFactory partitionFactory, TenantProperties properties,
+                                         TenantQuotas tenantQuotas, MeterRegistry meterRegistry) {
+        this.partitionFactory = partitionFactory;
+        this.properties = properties;
+        this.tenantQuotas = tenantQuotas;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("calendar.tenants", partitions, Map::size).register(meterRegistry);
+        for (String tenantId : partitionFactory.storedTenants()) {
+            partitions.put(tenantId, openPartition(tenantId));
+        }
+    }
+
+    /** @throws QuotaExceededException when a new date would take the tenant beyond its quota */
+    @Override
+    public boolean replaceAvailability(String ownerId, LocalDate date, List<LocalTime> startTimes) {
+        Partition partition = partitionForWrite();
+        CalendarRepository repository = partition.repository;
+        // A stored date is never removed, so replacing one cannot grow the partition; without quotas there is nothing to check
+        if (!tenantQuotas.hasLimits(partition.tenantId) || repository.hasAvailability(ownerId, date)) {
+            return repository.replaceAvailability(ownerId, date, startTimes);
+        }
+        return reserved(partition, () -> repository.replaceAvailability(ownerId, date, startTimes));
+    }
+
+    @Override
+    public NavigableSet<LocalTime> findAvailability(String ownerId, LocalDate date) {
+        CalendarRepository partition = partition();
+        return partition == null ? null : partition.findAvailability(ownerId, date);
+    }
+
+    @Override
+    public boolean hasAvailability(String ownerId, LocalDate date) {
+        CalendarRepository partition = partition();
+        return partition != null && partition.hasAvailability(ownerId, date);
+    }
+
+    @Override
+    public NavigableMap<LocalDate, List<LocalTime>> findAllAvailability(String ownerId) {
+        CalendarRepository partition = partition();
+        return partition == null ? new TreeMap<>() : partition.findAllAvailability(ownerId);
+    }
+
+    /** @throws QuotaExceededException when the tenant's partition is at its quota */
+    @Override
+    public boolean book(AppointmentResponse appointment) {
+        // Booking needs stored availability, so a tenant without a partition has nothing to book
+        Partition partition = partitions.get(TenantContext.current());
+        return partition != null && reserved(partition, () -> partition.repository.book(appointment));
+    }
+
+    @Override
+    public List<AppointmentResponse> findAppointmentsFrom(String ownerId, LocalDate fromInclusive) {
+        CalendarRepository partition = partition();
+        return partition == null ? List.of() : partition.findAppointmentsFrom(ownerId, fromInclusive);
+    }
+
+    @Override
+    public List<DayCount> findDayCounts(String ownerId, LocalDate fromInclusive, LocalDate toInclusive) {
+        CalendarRepository partition = partition();
+        return partition == null ? List.of() : partition.findDayCounts(ownerId, fromInclusive, toInclusive);
+    }
+
+    @Override
+    public void forEachOwner(Consumer<String> action) {
+        CalendarRepository partition = partition();
+        if (partition != null) {
+            partition.forEachOwner(action);
+        }
+    }
+
+    @Override
+    public StorageUsage usage() {
+        CalendarRepository partition = partition();
+        return partition == null ? StorageUsage.EMPTY : partition.usage();
+    }
+
+    /** Runs a write that may add one entry, holding a reservation against the tenant's quota while it runs. */
+    private boolean reserved(Partition partition, BooleanSupplier write) {
+        if (!tenantQuotas.hasLimits(partition.tenantId)) {
+            return write.getAsBoolean();
+        }
+        long inFlight = partition.inFlightWrites.incrementAndGet();
+        try {
+            tenantQuotas.check(partition.tenantId, partition.repository.usage(), inFlight);
+            return write.getAsBoolean();
+        } finally {
+            partition.inFlightWrites.decrementAndGet();
+        }
+    }
+
+    private CalendarRepository partition() {
+        Partition partition = partitions.get(TenantContext.current());
+        return partition == null ? null : partition.repository;
+    }
+
+    private Partition partitionForWrite() {
+        String tenantId = TenantContext.current();
+        Partition partition = partitions.get(tenantId);
+        if (partition != null) {
+            return partition;
+        }
+        return partitions.computeIfAbsent(tenantId, this::createPartition);
+    }
+
+    private Partition createPartition(String tenantId) {
+        if (properties.getMaxTenants() > 0 && partitions.size() >= properties.getMaxTenants()) {
+            meterRegistry.counter("calendar.tenant.throttled", "tenant", tenantId).increment();
+            throw new QuotaExceededException("Tenant limit reached, no storage can be created for tenant " + tenantId);
+        }
+        return openPartition(tenantId);
+    }
+
+    private Partition openPartition(String tenantId) {
+        CalendarRepository partition = partitionFactory.create(tenantId);
+        Gauge.builder("calendar.tenant.days", partition, p -> p.usage().days())
+                .tag("tenant", tenantId).register(meterRegistry);
+        Gauge.builder("calendar.tenant.appointments", partition, p -> p.usage().appointments())
+                .tag("tenant", tenantId).register(meterRegistry);
+        Gauge.builder("calendar.tenant.bytes", partition, p -> p.usage().estimatedBytes())
+                .tag("tenant", tenantId).register(meterRegistry);
+        return new Partition(tenantId, partition);
+    }
+
+    private static final class Partition {
+        private final String tenantId;
+        private final CalendarRepository repository;
+        // Admitted writes that may add an entry and have not finished yet
+        private final AtomicLong inFlightWrites = new AtomicLong();
+
+        private Partition(String tenantId, CalendarRepository repository) {
+            this.tenantId = tenantId;
+            this.repository = repository;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.assignment.repository;
+
+/**
+ * Size of one tenant's partition: stored owner-days with availability, booked appointments, and an estimate of the
+ * heap they occupy (0 for backends that keep data outside the heap).
+ */
+public record StorageUsage(long days, long appointments, long estimatedBytes) {
+    public static final StorageUsage EMPTY = new StorageUsage(0, 0, 0);
+
+    /** Entries counted against the entry quota. */
+    public long entries() {
+        return days + appointments;
+    }
+}
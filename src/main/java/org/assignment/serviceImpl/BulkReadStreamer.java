@@ -0,0 +1,118 @@
+package org.assignment.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.assignment.dtos.BulkReadRequest;
+import org.assignment.dtos.OwnerAppointments;
+import org.assignment.dtos.OwnerDaySlots;
+import org.assignment.exceptions.InternalServerException;
+import org.assignment.services.CalendarService;
+import org.assignment.tenant.TenantContext;
+import org.assignment.utils.ValidationUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Serves multi-owner reads as one streamed JSON array. Owners are read in parallel on a dedicated bounded executor,
+ * at most {@code window} owners ahead of the writer, and written in request order as soon as each is ready,
+ * so neither the whole result nor one task per owner is held in memory at once.
+ * Owners are read in the tenant of the request, which is captured before the body is streamed on another thread.
+ */
+@Component
+public class BulkReadStreamer {
+    private final CalendarService calendarService;
+    private final ValidationUtil validationUtil;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final int window;
+
+    public BulkReadStreamer(CalendarService calendarService, ValidationUtil validationUtil, ObjectMapper objectMapper,
+                            @Value("${calendar.bulk.parallelism:0}") int parallelism) {
+        this.calendarService = calendarService;
+        this.validationUtil = validationUtil;
+        this.objectMapper = objectMapper;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("calendar-bulk-");
+        threadFactory.setDaemon(true);
+        // Bounded queue; when it is full the streaming thread reads the owner itself
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.window = threads * 2;
+    }
+
+    /**
+     * Validates the request and returns a body streaming each owner's upcoming appointments in the range.
+     * @throws org.assignment.exceptions.BadRequestException when the owner list or range is invalid
+     */
+    public StreamingResponseBody appointments(BulkReadRequest request) {
+        validationUtil.validateBulkReadReq(request);
+        LocalDate from = fromDate(request);
+        String tenantId = TenantContext.current();
+        return out -> stream(request, tenantId, out, ownerId ->
+                new OwnerAppointments(ownerId, calendarService.listAppointmentsInRange(ownerId, from, request.getToDate())));
+    }
+
+    /**
+     * Validates the request and returns a body streaming each owner's available slots in the range.
+     * @throws org.assignment.exceptions.BadRequestException when the owner list or range is invalid
+     */
+    public StreamingResponseBody slots(BulkReadRequest request) {
+        validationUtil.validateBulkReadReq(request);
+        LocalDate from = fromDate(request);
+        String tenantId = TenantContext.current();
+        return out -> stream(request, tenantId, out, ownerId ->
+                new OwnerDaySlots(ownerId, calendarService.searchAvailableSlotsInRange(ownerId, from, request.getToDate())));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> void stream(BulkReadRequest request, String tenantId, OutputStream out, Function<String, T> readOwner)
+            throws IOException {
+        Iterator<String> owners = request.getOwnerIds().iterator();
+        Deque<Future<T>> pending = new ArrayDeque<>(window);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartArray();
+            while (owners.hasNext() || !pending.isEmpty()) {
+                while (owners.hasNext() && pending.size() < window) {
+                    String ownerId = owners.next();
+                    pending.add(executor.submit(() -> TenantContext.callAs(tenantId, () -> readOwner.apply(ownerId))));
+                }
+                generator.writeObject(await(pending.poll()));
+                generator.flush();
+            }
+            generator.writeEndArray();
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static LocalDate fromDate(BulkReadRequest request) {
+        return request.getFromDate() != null ? request.getFromDate() : LocalDate.now();
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException("Bulk read interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new InternalServerException("Bulk read failed", ex.getCause());
+        }
+    }
+}
@@ -1,34 +1,47 @@
 package org.assignment.serviceImpl;
 
+import org.assignment.diagnostics.OperationRecorder;
 import org.assignment.dtos.*;
+import org.assignment.events.CalendarEventPublisher;
 import org.assignment.exceptions.*;
+import org.assignment.repository.CalendarRepository;
+import org.assignment.repository.DayCount;
 import org.assignment.services.CalendarService;
 import org.assignment.utils.ValidationUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 
-//Stores owner availabilities and booked appointments in process-local maps.
+//Applies the calendar rules; availabilities and booked appointments are kept by the CalendarRepository.
 @Service
 public class CalendarServiceImpl implements CalendarService {
     @Autowired
     private ValidationUtil validationUtil;
+    @Autowired
+    private CalendarEventPublisher eventPublisher;
+    //Per-owner, per-date available slot start times (each a window [start, start + 60m)) and booked appointments.
+    @Autowired
+    private CalendarRepository calendarRepository;
+    //Shares one slot search among concurrent identical requests for the same owner
+    @Autowired
+    private SlotSearchCoalescer slotSearchCoalescer;
+    //Time-ordered slots of owner pools, kept current on every change
+    @Autowired
+    private OwnerPoolIndex ownerPoolIndex;
 
     // Duration for each appointment in minutes.
     private static final int APPOINTMENT_MINUTES = 60;
 
-    //Map of owner id to a per-date map of available slot start times.
-    //Each start time represents a window [start, start + 60m).
-    private final Map<String, Map<LocalDate, NavigableSet<LocalTime>>> availabilityByOwner = new HashMap<>();
-
-
-    //Map of owner id to a per-date map of booked appointments keyed by start time.
-    private final Map<String, Map<LocalDate, Map<LocalTime, AppointmentResponse>>> appointmentsByOwner = new HashMap<>();
+    // Number of slots returned by an earliest-available query when no limit is given.
+    private static final int DEFAULT_EARLIEST_LIMIT = 10;
 
     /**
      * Sets the availability for a specific owner and date.
@@ -38,11 +51,14 @@ public class CalendarServiceImpl implements CalendarService {
      * and availability cannot be modified for that date.
      * @throws org.assignment.exceptions.BadRequestException when validation fails or no full 60-minute slots available
      * @throws org.assignment.exceptions.ConflictException when appointments already exist for the date
+     * @throws org.assignment.exceptions.QuotaExceededException when a new date would exceed the tenant's quota
      */
     @Override
     public AvailabilityRuleResponse setAvailability(AvailabilityRuleRequest request) {
+        OperationRecorder recorder = OperationRecorder.start("setAvailability", request.getOwnerId());
         try {
             validationUtil.validateAvailabilityReq(request);
+            recorder.validated();
 
             LocalTime normalizedStart = validationUtil.ceilToHour(request.getStartTime());
             LocalTime normalizedEnd = validationUtil.floorToHour(request.getEndTime());
@@ -51,28 +67,33 @@ public class CalendarServiceImpl implements CalendarService {
                 throw new BadRequestException("No full 60-minute slots within provided window");
             }
 
-            // Do not allow modifying availability if any appointment already exists on that date
-            Map<LocalDate, Map<LocalTime, AppointmentResponse>> ownerAppts = appointmentsByOwner.get(request.getOwnerId());
-            if (ownerAppts != null) {
-                Map<LocalTime, AppointmentResponse> apptsForDate = ownerAppts.get(request.getDate());
-                if (apptsForDate != null && !apptsForDate.isEmpty()) {
-                    throw new ConflictException("An appointment has already been booked for that date, you cannot modify your availability, please select another date");
-                }
-            }
-
             // Generate proper hourly start times within the normalized window
             List<LocalTime> slots = generateSlotsForDay(normalizedStart, normalizedEnd);
-            NavigableSet<LocalTime> slotSet = new TreeSet<>(slots);
-            availabilityByOwner
-                    .computeIfAbsent(request.getOwnerId(), x -> new HashMap<>())
-                    .put(request.getDate(), slotSet);
+            // Do not allow modifying availability if any appointment already exists on that date
+            boolean replaced = calendarRepository.replaceAvailability(request.getOwnerId(), request.getDate(), slots);
+            recorder.lookedUp();
+            if (!replaced) {
+                throw new ConflictException("An appointment has already been booked for that date, you cannot modify your availability, please select another date");
+            }
+            slotSearchCoalescer.invalidate(request.getOwnerId());
+            ownerPoolIndex.onOwnerDateChanged(request.getOwnerId(), request.getDate());
+            eventPublisher.publishAvailabilitySet(request.getOwnerId(), request.getDate(), normalizedStart, normalizedEnd);
+            recorder.resultSize(slots.size());
             return new AvailabilityRuleResponse(200, "Availability set successfully");
         } catch (BadRequestException ex) {
+            recorder.failed(ex);
             return new AvailabilityRuleResponse(400, ex.getMessage());
         } catch (ConflictException ex) {
+            recorder.failed(ex);
             return new AvailabilityRuleResponse(409, ex.getMessage());
+        } catch (QuotaExceededException ex) {
+            recorder.failed(ex);
+            return new AvailabilityRuleResponse(429, ex.getMessage());
         } catch (Exception ex) {
+            recorder.failed(ex);
             return new AvailabilityRuleResponse(500, "Something went wrong, Availability set failed");
+        } finally {
+            recorder.finish();
         }
     }
 
@@ -82,24 +103,22 @@ public class CalendarServiceImpl implements CalendarService {
      */
     @Override
     public List<DaySlots> searchAvailableSlots(String ownerId) {
+        OperationRecorder recorder = OperationRecorder.start("searchAvailableSlots", ownerId);
         try {
             validationUtil.validateAvailabilitySlotsReq(ownerId);
-            Map<LocalDate, NavigableSet<LocalTime>> byDate = availabilityByOwner.getOrDefault(ownerId, Collections.emptyMap());
-            if (byDate.isEmpty()) {
-                throw new AvailabilityException("No available Slots found, please check the availability for the given owner");
-            }
-            List<DaySlots> result = new ArrayList<>();
-            for (Map.Entry<LocalDate, NavigableSet<LocalTime>> entry : byDate.entrySet()) {
-                LocalDate date = entry.getKey();
-                NavigableSet<LocalTime> times = entry.getValue();
-                result.add(new DaySlots(date, new ArrayList<>(times)));
-            }
-            result.sort(Comparator.comparing(DaySlots::getDate));
+            recorder.validated();
+            List<DaySlots> result = slotSearchCoalescer.search(ownerId, () -> loadAvailableSlots(ownerId));
+            recorder.lookedUp();
+            recorder.resultSize(result.size());
             return result;
         } catch (AvailabilityException | BadRequestException ex) {
+            recorder.failed(ex);
             throw ex;
         } catch (Exception ex) {
+            recorder.failed(ex);
             throw new InternalServerException("Failed to fetch available slots", ex);
+        } finally {
+            recorder.finish();
         }
     }
 
@@ -109,39 +128,51 @@ public class CalendarServiceImpl implements CalendarService {
      * On success, the chosen slot is removed from availability to prevent double booking.
      * @throws org.assignment.exceptions.BadRequestException when inputs are invalid or slot not available
      * @throws org.assignment.exceptions.ConflictException when attempting to book an already-booked slot
+     * @throws org.assignment.exceptions.QuotaExceededException when the tenant's partition is at its quota
      */
     @Override
     public AppointmentResponse bookAppointment(BookAppointmentRequest request) {
+        OperationRecorder recorder = OperationRecorder.start("bookAppointment", request.getOwnerId());
         try {
             validationUtil.validateBookAppointReq(request);
+            recorder.validated();
             String ownerId = request.getOwnerId();
             LocalDate date = request.getDate();
-            NavigableSet<LocalTime> availableSet = availabilityByOwner
-                    .getOrDefault(ownerId, Collections.emptyMap())
-                    .get(date);
+            NavigableSet<LocalTime> availableSet = calendarRepository.findAvailability(ownerId, date);
             if (availableSet == null) {
+                recorder.lookedUp();
                 throw new AvailabilityException("No availabile slots for owner on this date");
             }
             LocalTime start = request.getStartTime();
             if (!availableSet.contains(start)) {
+                recorder.lookedUp();
                 throw new AvailabilityException("Selected time slot is not available, please select another time slot");
             }
             LocalTime end = start.plusMinutes(APPOINTMENT_MINUTES);
 
-            Map<LocalDate, Map<LocalTime, AppointmentResponse>> byDate = appointmentsByOwner.computeIfAbsent(ownerId, k -> new HashMap<>());
-            Map<LocalTime, AppointmentResponse> bookedForDate = byDate.computeIfAbsent(date, d -> new HashMap<>());
-
             AppointmentResponse appointment = new AppointmentResponse(
                     UUID.randomUUID(), ownerId, date, start, end, request.getInviteeName(), request.getInviteeEmail());
-            //Add this appointment details to the appointmentsByOwner
-            bookedForDate.put(start, appointment);
-            // Remove this slot from available slots so it is not shown to other invitees
-            availableSet.remove(start);
+            // Record the appointment and remove the slot from availability in one step, so it is not shown to
+            // other invitees; fails if another invitee booked it in the meantime
+            boolean booked = calendarRepository.book(appointment);
+            recorder.lookedUp();
+            if (!booked) {
+                throw new AvailabilityException("Selected time slot is not available, please select another time slot");
+            }
+            slotSearchCoalescer.invalidate(ownerId);
+            ownerPoolIndex.onOwnerDateChanged(ownerId, date);
+            // Export to downstream consumers; never blocks on them
+            eventPublisher.publishAppointmentBooked(appointment);
+            recorder.resultSize(1);
             return appointment;
-        }  catch (AvailabilityException | BadRequestException | ConflictException ex) {
+        }  catch (AvailabilityException | BadRequestException | ConflictException | QuotaExceededException ex) {
+            recorder.failed(ex);
             throw ex;
         }  catch (Exception ex) {
+            recorder.failed(ex);
             throw new InternalServerException("Failed to book appointment", ex);
+        }  finally {
+            recorder.finish();
         }
     }
 
@@ -151,16 +182,279 @@ public class CalendarServiceImpl implements CalendarService {
      */
     @Override
     public List<AppointmentResponse> listUpcomingAppointments(String ownerId) {
-        if (ownerId == null || ownerId.isBlank()) {
-            throw new BadRequestException("ownerId is required");
-        }
-        LocalDate today = LocalDate.now();
-        return appointmentsByOwner.getOrDefault(ownerId, Collections.emptyMap()).entrySet().stream()
-                .filter(entry -> !entry.getKey().isBefore(today))
-                .sorted(Map.Entry.comparingByKey())
-                .flatMap(entry -> entry.getValue().values().stream())
-                .sorted(Comparator.comparing(AppointmentResponse::getDate).thenComparing(AppointmentResponse::getStartTime))
-                .collect(Collectors.toList());
+        OperationRecorder recorder = OperationRecorder.start("listUpcomingAppointments", ownerId);
+        try {
+            if (ownerId == null || ownerId.isBlank()) {
+                throw new BadRequestException("ownerId is required");
+            }
+            recorder.validated();
+            List<AppointmentResponse> result = calendarRepository.findAppointmentsFrom(ownerId, LocalDate.now());
+            recorder.lookedUp();
+            recorder.resultSize(result.size());
+            return result;
+        } catch (BadRequestException ex) {
+            recorder.failed(ex);
+            throw ex;
+        } finally {
+            recorder.finish();
+        }
+    }
+
+    /**
+     * Returns the first available slots across a pool of owners at or after the requested date and time,
+     * ordered by date, start time and owner id. Backed by an incrementally maintained per-pool index.
+     * @throws org.assignment.exceptions.BadRequestException when the pool is empty or the limit is out of range
+     */
+    @Override
+    public List<OwnerSlot> findEarliestAvailableSlots(EarliestSlotsRequest request) {
+        OperationRecorder recorder = OperationRecorder.start("findEarliestAvailableSlots", null);
+        try {
+            validationUtil.validateEarliestSlotsReq(request);
+            recorder.validated();
+            LocalDate fromDate = request.getFromDate() != null ? request.getFromDate() : LocalDate.now();
+            LocalTime fromTime = request.getFromTime() != null ? request.getFromTime() : LocalTime.MIDNIGHT;
+            int limit = request.getLimit() != null ? request.getLimit() : DEFAULT_EARLIEST_LIMIT;
+            List<OwnerSlot> result = ownerPoolIndex.findEarliest(request.getOwnerIds(), fromDate, fromTime, limit);
+            recorder.lookedUp();
+            recorder.resultSize(result.size());
+            return result;
+        } catch (BadRequestException ex) {
+            recorder.failed(ex);
+            throw ex;
+        } catch (Exception ex) {
+            recorder.failed(ex);
+            throw new InternalServerException("Failed to fetch earliest available slots", ex);
+        } finally {
+            recorder.finish();
+        }
+    }
+
+    /**
+     * Returns booked and available slot counts of the owner between the given dates (both inclusive), in total and
+     * per day or per week (Monday to Sunday, clipped to the range). Reads the per-date counters the repository keeps
+     * up to date on every availability change and booking, so the cost follows the length of the range only.
+     * @throws org.assignment.exceptions.BadRequestException when the owner id or range is invalid
+     */
+    @Override
+    public UtilizationStats getUtilizationStats(String ownerId, LocalDate fromDate, LocalDate toDate, StatsPeriod period) {
+        OperationRecorder recorder = OperationRecorder.start("getUtilizationStats", ownerId);
+        try {
+            validationUtil.validateUtilizationReq(ownerId, fromDate, toDate);
+            recorder.validated();
+            StatsPeriod bucketSize = period != null ? period : StatsPeriod.DAY;
+            Iterator<DayCount> days = calendarRepository.findDayCounts(ownerId, fromDate, toDate).iterator();
+            recorder.lookedUp();
+            DayCount day = days.hasNext() ? days.next() : null;
+            UtilizationPeriod total = new UtilizationPeriod(fromDate, toDate, 0, 0, 0, 0);
+            List<UtilizationPeriod> periods = new ArrayList<>();
+            for (LocalDate start = fromDate; !start.isAfter(toDate); ) {
+                LocalDate end = bucketSize == StatsPeriod.DAY ? start : start.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+                if (end.isAfter(toDate)) {
+                    end = toDate;
+                }
+                UtilizationPeriod bucket = new UtilizationPeriod(start, end, 0, 0, 0, 0);
+                while (day != null && !day.date().isAfter(end)) {
+                    addDay(bucket, day);
+                    addDay(total, day);
+                    day = days.hasNext() ? days.next() : null;
+                }
+                bucket.setUtilization(utilization(bucket));
+                periods.add(bucket);
+                start = end.plusDays(1);
+            }
+            total.setUtilization(utilization(total));
+            recorder.resultSize(periods.size());
+            return new UtilizationStats(ownerId, fromDate, toDate, bucketSize, total, periods);
+        } catch (BadRequestException ex) {
+            recorder.failed(ex);
+            throw ex;
+        } catch (Exception ex) {
+            recorder.failed(ex);
+            throw new InternalServerException("Failed to compute utilization statistics", ex);
+        } finally {
+            recorder.finish();
+        }
+    }
+
+    /**
+     * Lists the owner's appointments between the given dates (both inclusive, toDate null = open-ended),
+     * sorted by date then start time. Used by multi-owner reads, so the owner id is assumed validated.
+     */
+    @Override
+    public List<AppointmentResponse> listAppointmentsInRange(String ownerId, LocalDate fromDate, LocalDate toDate) {
+        OperationRecorder recorder = OperationRecorder.start("listAppointmentsInRange", ownerId);
+        try {
+            List<AppointmentResponse> appointments = calendarRepository.findAppointmentsFrom(ownerId, fromDate);
+            if (toDate != null) {
+                appointments = appointments.stream().takeWhile(appt -> !appt.getDate().isAfter(toDate)).toList();
+            }
+            recorder.lookedUp();
+            recorder.resultSize(appointments.size());
+            return appointments;
+        } catch (RuntimeException ex) {
+            recorder.failed(ex);
+            throw ex;
+        } finally {
+            recorder.finish();
+        }
+    }
+
+    /**
+     * Returns the owner's available slots between the given dates (both inclusive, toDate null = open-ended),
+     * sorted by date. Unlike {@link #searchAvailableSlots(String)}, an owner without availability yields an empty list.
+     */
+    @Override
+    public List<DaySlots> searchAvailableSlotsInRange(String ownerId, LocalDate fromDate, LocalDate toDate) {
+        OperationRecorder recorder = OperationRecorder.start("searchAvailableSlotsInRange", ownerId);
+        try {
+            NavigableMap<LocalDate, List<LocalTime>> byDate = calendarRepository.findAllAvailability(ownerId).tailMap(fromDate, true);
+            if (toDate != null) {
+                byDate = byDate.headMap(toDate, true);
+            }
+            List<DaySlots> result = new ArrayList<>(byDate.size());
+            byDate.forEach((date, times) -> result.add(new DaySlots(date, times)));
+            recorder.lookedUp();
+            recorder.resultSize(result.size());
+            return result;
+        } catch (RuntimeException ex) {
+            recorder.failed(ex);
+            throw ex;
+        } finally {
+            recorder.finish();
+        }
+    }
+
+    /** Passes every owner with availability to {@code action}; used by bulk export. */
+    @Override
+    public void forEachOwner(Consumer<String> action) {
+        calendarRepository.forEachOwner(action);
+    }
+
+    /**
+     * Applies one owner's exported records in order. Each availability record replaces the date's slots with its
+     * remaining start times plus those of the appointments that follow it, then books those appointments with their
+     * original ids, so the result matches the exporting node. Past dates are accepted. Records that are malformed,
+     * not on the hour, conflict with existing bookings, or exceed the tenant's quota are counted as rejected and skipped.
+     * The search cache, pool indices and event export are updated as for single calls.
+     */
+    @Override
+    public ImportResult importOwnerRecords(String ownerId, List<TransferRecord> records) {
+        ImportResult result = new ImportResult();
+        Set<LocalDate> changedDates = new TreeSet<>();
+        int i = 0;
+        while (i < records.size()) {
+            TransferRecord record = records.get(i++);
+            if (!isValidRecord(ownerId, record)) {
+                result.setRejected(result.getRejected() + 1);
+                continue;
+            }
+            if (record.getType() == TransferRecord.Type.APPOINTMENT) {
+                // Date not opened by a preceding availability record of this batch; book against what is stored
+                importAppointment(record, result);
+                changedDates.add(record.getDate());
+                continue;
+            }
+            List<TransferRecord> booked = new ArrayList<>();
+            while (i < records.size() && records.get(i).getType() == TransferRecord.Type.APPOINTMENT
+                    && record.getDate().equals(records.get(i).getDate())) {
+                booked.add(records.get(i++));
+            }
+            importDay(ownerId, record, booked, result);
+            changedDates.add(record.getDate());
+        }
+        if (!changedDates.isEmpty()) {
+            slotSearchCoalescer.invalidate(ownerId);
+            changedDates.forEach(date -> ownerPoolIndex.onOwnerDateChanged(ownerId, date));
+        }
+        return result;
+    }
+
+    private void importDay(String ownerId, TransferRecord availability, List<TransferRecord> booked, ImportResult result) {
+        TreeSet<LocalTime> slots = new TreeSet<>(availability.getStartTimes());
+        for (TransferRecord appointment : booked) {
+            if (isValidRecord(ownerId, appointment)) {
+                slots.add(appointment.getStartTime());
+            }
+        }
+        if (!withinQuota(() -> calendarRepository.replaceAvailability(ownerId, availability.getDate(), new ArrayList<>(slots)))) {
+            result.setRejected(result.getRejected() + 1 + booked.size());
+            return;
+        }
+        result.setAvailabilityDays(result.getAvailabilityDays() + 1);
+        if (!slots.isEmpty()) {
+            eventPublisher.publishAvailabilitySet(ownerId, availability.getDate(), slots.first(),
+                    slots.last().plusMinutes(APPOINTMENT_MINUTES));
+        }
+        for (TransferRecord appointment : booked) {
+            if (isValidRecord(ownerId, appointment)) {
+                importAppointment(appointment, result);
+            } else {
+                result.setRejected(result.getRejected() + 1);
+            }
+        }
+    }
+
+    private void importAppointment(TransferRecord record, ImportResult result) {
+        AppointmentResponse appointment = new AppointmentResponse(
+                record.getId() != null ? record.getId() : UUID.randomUUID(), record.getOwnerId(), record.getDate(),
+                record.getStartTime(), record.getStartTime().plusMinutes(APPOINTMENT_MINUTES),
+                record.getInviteeName(), record.getInviteeEmail());
+        if (withinQuota(() -> calendarRepository.book(appointment))) {
+            result.setAppointments(result.getAppointments() + 1);
+            eventPublisher.publishAppointmentBooked(appointment);
+        } else {
+            result.setRejected(result.getRejected() + 1);
+        }
+    }
+
+    private static void addDay(UtilizationPeriod period, DayCount day) {
+        period.setDaysWithAvailability(period.getDaysWithAvailability() + 1);
+        period.setBooked(period.getBooked() + day.booked());
+        period.setAvailable(period.getAvailable() + day.available());
+    }
+
+    private static double utilization(UtilizationPeriod period) {
+        long slots = period.getBooked() + period.getAvailable();
+        return slots == 0 ? 0.0 : (double) period.getBooked() / slots;
+    }
+
+    /** Runs a repository write, counting a quota rejection as a refused write. */
+    private static boolean withinQuota(BooleanSupplier write) {
+        try {
+            return write.getAsBoolean();
+        } catch (QuotaExceededException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isValidRecord(String ownerId, TransferRecord record) {
+        if (record.getType() == null || !ownerId.equals(record.getOwnerId()) || record.getDate() == null) {
+            return false;
+        }
+        if (record.getType() == TransferRecord.Type.AVAILABILITY) {
+            return record.getStartTimes() != null && record.getStartTimes().stream().allMatch(CalendarServiceImpl::isOnTheHour);
+        }
+        return isOnTheHour(record.getStartTime());
+    }
+
+    private static boolean isOnTheHour(LocalTime time) {
+        return time != null && time.getMinute() == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    /**
+     * Builds the owner's slots sorted by date. The list and its immutable {@link DaySlots} are shared by every
+     * coalesced caller, so the list is unmodifiable too.
+     */
+    private List<DaySlots> loadAvailableSlots(String ownerId) {
+        NavigableMap<LocalDate, List<LocalTime>> byDate = calendarRepository.findAllAvailability(ownerId);
+        if (byDate.isEmpty()) {
+            throw new AvailabilityException("No available Slots found, please check the availability for the given owner");
+        }
+        List<DaySlots> result = new ArrayList<>(byDate.size());
+        for (Map.Entry<LocalDate, List<LocalTime>> entry : byDate.entrySet()) {
+            result.add(new DaySlots(entry.getKey(), entry.getValue()));
+        }
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -0,0 +1,343 @@
+package org.assignment.serviceImpl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jakarta.annotation.PreDestroy;
+import org.assignment.codec.TransferRecordDeserializer;
+import org.assignment.codec.TransferRecordSerializer;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.dtos.DaySlots;
+import org.assignment.dtos.ImportResult;
+import org.assignment.dtos.TransferRecord;
+import org.assignment.exceptions.InternalServerException;
+import org.assignment.exceptions.PayloadTooLargeException;
+import org.assignment.services.CalendarService;
+import org.assignment.tenant.TenantContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bulk export and import of all owners' availability and appointments as NDJSON {@link TransferRecord} lines,
+ * optionally gzip-compressed. Export writes owner by owner, so only one owner's data is in memory at a time.
+ * Import parses lines on the request thread and applies them in per-owner batches on {@code lanes} single-threaded
+ * executors: an owner always maps to the same lane, so its records apply in stream order while owners run in parallel.
+ * At most two batches per lane are queued, and an upload may hold at most {@code calendar.transfer.max-import-bytes}
+ * before and after gzip decompression, which bounds both memory and the work one request can cause.
+ * Lines are split and parsed as UTF-8 bytes, without decoding them into strings first.
+ * Both directions act on the tenant of the request only.
+ */
+@Component
+public class CalendarTransferStreamer {
+    // Earliest date exported; appointments and availability cannot be set before the service runs
+    private static final LocalDate EXPORT_FROM = LocalDate.EPOCH;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final CalendarService calendarService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader recordReader;
+    private final ObjectWriter recordWriter;
+    private final ExecutorService[] lanes;
+    private final long maxImportBytes;
+
+    public CalendarTransferStreamer(CalendarService calendarService, ObjectMapper objectMapper,
+                                    @Value("${calendar.transfer.parallelism:0}") int parallelism,
+                                    @Value("${calendar.transfer.max-import-bytes:1073741824}") long maxImportBytes) {
+        this.calendarService = calendarService;
+        this.maxImportBytes = maxImportBytes;
+        // Same wire format as the annotated DTO, read and written without pattern formatters
+        this.objectMapper = objectMapper.copy().registerModule(new SimpleModule()
+                .addSerializer(TransferRecord.class, new TransferRecordSerializer())
+                .addDeserializer(TransferRecord.class, new TransferRecordDeserializer()));
+        this.recordReader = this.objectMapper.readerFor(TransferRecord.class);
+        // Leave flushing to the buffered output, instead of one socket write per record
+        this.recordWriter = this.objectMapper.writerFor(TransferRecord.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("calendar-import-");
+        threadFactory.setDaemon(true);
+        this.lanes = new ExecutorService[threads];
+        for (int i = 0; i < threads; i++) {
+            lanes[i] = Executors.newSingleThreadExecutor(threadFactory);
+        }
+    }
+
+    /**
+     * Streams every owner's availability and appointments. For each date with availability, the remaining start
+     * times come first, followed by that date's appointments.
+     */
+    public StreamingResponseBody export(boolean gzip) {
+        String tenantId = TenantContext.current();
+        return out -> {
+            OutputStream target = gzip ? new FastGzipOutputStream(out) : new BufferedOutputStream(out, BUFFER_BYTES);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+                generator.setRootValueSeparator(null);
+                TenantContext.runAs(tenantId,
+                        () -> calendarService.forEachOwner(ownerId -> exportOwner(ownerId, generator)));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        };
+    }
+
+    /**
+     * Reads NDJSON records from {@code in} and applies them, returning once every record has been applied.
+     * Blank lines are skipped; unparseable lines are counted as rejected.
+     * @param declaredBytes the request's content length, or -1 when unknown
+     * @throws PayloadTooLargeException when the body is declared or turns out to be larger than the import limit;
+     *                                  records read before the limit was reached have been applied
+     */
+    public ImportResult importRecords(InputStream in, long declaredBytes, boolean gzip) throws IOException {
+        if (declaredBytes > maxImportBytes) {
+            throw tooLarge();
+        }
+        InputStream limited = new LimitedInputStream(in);
+        LineReader lines = new LineReader(gzip ? new LimitedInputStream(new GZIPInputStream(limited, BUFFER_BYTES)) : limited);
+        ImportRun run = new ImportRun(TenantContext.current());
+        String ownerId = null;
+        List<TransferRecord> batch = new ArrayList<>();
+        try {
+            while (lines.next()) {
+                if (lines.isBlank()) {
+                    continue;
+                }
+                TransferRecord record;
+                try {
+                    record = recordReader.readValue(lines.buffer, lines.start, lines.end - lines.start);
+                } catch (IOException ex) {
+                    run.rejected.incrementAndGet();
+                    continue;
+                }
+                if (record.getOwnerId() == null || record.getOwnerId().isBlank()) {
+                    run.rejected.incrementAndGet();
+                    continue;
+                }
+                // Cut batches only where an owner or a date starts, so a date's appointments stay with its availability
+                boolean newOwner = !batch.isEmpty() && !ownerId.equals(record.getOwnerId());
+                boolean full = batch.size() >= BATCH_SIZE && record.getType() != TransferRecord.Type.APPOINTMENT;
+                if (newOwner || full) {
+                    run.submit(ownerId, batch);
+                    batch = new ArrayList<>();
+                }
+                ownerId = record.getOwnerId();
+                batch.add(record);
+            }
+            if (!batch.isEmpty()) {
+                run.submit(ownerId, batch);
+            }
+        } finally {
+            run.awaitApplied();
+        }
+        return new ImportResult(run.availabilityDays.get(), run.appointments.get(), run.rejected.get());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ExecutorService lane : lanes) {
+            lane.shutdownNow();
+        }
+    }
+
+    private void exportOwner(String ownerId, JsonGenerator generator) {
+        List<DaySlots> days = calendarService.searchAvailableSlotsInRange(ownerId, EXPORT_FROM, null);
+        Iterator<AppointmentResponse> booked = calendarService.listAppointmentsInRange(ownerId, EXPORT_FROM, null).iterator();
+        AppointmentResponse next = booked.hasNext() ? booked.next() : null;
+        try {
+            for (DaySlots day : days) {
+                write(generator, new TransferRecord(TransferRecord.Type.AVAILABILITY, ownerId, day.getDate(),
+                        day.getAvailableStartTimes(), null, null, null, null, null));
+                // Appointments are sorted by date, and every booked date still has an (possibly empty) availability entry
+                while (next != null && !next.getDate().isAfter(day.getDate())) {
+                    write(generator, appointmentRecord(next));
+                    next = booked.hasNext() ? booked.next() : null;
+                }
+            }
+            while (next != null) {
+                write(generator, appointmentRecord(next));
+                next = booked.hasNext() ? booked.next() : null;
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private PayloadTooLargeException tooLarge() {
+        return new PayloadTooLargeException("Import body exceeds " + maxImportBytes + " bytes");
+    }
+
+    private static TransferRecord appointmentRecord(AppointmentResponse appointment) {
+        return new TransferRecord(TransferRecord.Type.APPOINTMENT, appointment.getOwnerId(), appointment.getDate(), null,
+                appointment.getId(), appointment.getStartTime(), appointment.getEndTime(),
+                appointment.getInviteeName(), appointment.getInviteeEmail());
+    }
+
+    private void write(JsonGenerator generator, TransferRecord record) throws IOException {
+        recordWriter.writeValue(generator, record);
+        generator.writeRaw('\n');
+    }
+
+    /** Counters of one import, and the permits that limit how many of its batches are queued. */
+    private final class ImportRun {
+        private final String tenantId;
+        private final int maxQueued = lanes.length * 2;
+        private final Semaphore queued = new Semaphore(maxQueued);
+        private final AtomicLong availabilityDays = new AtomicLong();
+        private final AtomicLong appointments = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        private ImportRun(String tenantId) {
+            this.tenantId = tenantId;
+        }
+
+        private void submit(String ownerId, List<TransferRecord> batch) {
+            try {
+                queued.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new InternalServerException("Import interrupted", ex);
+            }
+            try {
+                int lane = Math.floorMod(31 * tenantId.hashCode() + ownerId.hashCode(), lanes.length);
+                lanes[lane].execute(() -> TenantContext.runAs(tenantId, () -> apply(ownerId, batch)));
+            } catch (RejectedExecutionException ex) {
+                queued.release();
+                throw new InternalServerException("Import is shutting down", ex);
+            }
+        }
+
+        private void apply(String ownerId, List<TransferRecord> batch) {
+            try {
+                ImportResult result = calendarService.importOwnerRecords(ownerId, batch);
+                availabilityDays.addAndGet(result.getAvailabilityDays());
+                appointments.addAndGet(result.getAppointments());
+                rejected.addAndGet(result.getRejected());
+            } catch (RuntimeException ex) {
+                rejected.addAndGet(batch.size());
+            } finally {
+                queued.release();
+            }
+        }
+
+        // All permits free again means every submitted batch has finished
+        private void awaitApplied() {
+            queued.acquireUninterruptibly(maxQueued);
+        }
+    }
+
+    /** Gzip at the fastest level: the default level made compression, not the store, the limit of gzip exports. */
+    private static final class FastGzipOutputStream extends GZIPOutputStream {
+        private FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, BUFFER_BYTES);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    /** Fails the import once more than {@code maxImportBytes} have been read through it. */
+    private final class LimitedInputStream extends FilterInputStream {
+        private long remaining = maxImportBytes;
+
+        private LimitedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            // Read one byte past the limit, so a body of exactly the limit still passes
+            int n = super.read(b, off, (int) Math.min(len, remaining + 1));
+            if (n > 0 && (remaining -= n) < 0) {
+                throw tooLarge();
+            }
+            return n;
+        }
+    }
+
+    /**
+     * Splits a byte stream at '\n' into lines held in a reused buffer: after {@link #next()} the current line is
+     * {@code buffer[start, end)}, without its terminator. The buffer grows to fit the longest line.
+     */
+    private static final class LineReader {
+        private final InputStream in;
+        private byte[] buffer = new byte[BUFFER_BYTES];
+        private int start;
+        private int end;
+        // First byte after the current line's terminator, and the number of bytes read into the buffer
+        private int next;
+        private int limit;
+        private boolean eof;
+
+        private LineReader(InputStream in) {
+            this.in = in;
+        }
+
+        private boolean next() throws IOException {
+            int scanned = next;
+            while (true) {
+                for (int i = scanned; i < limit; i++) {
+                    if (buffer[i] == '\n') {
+                        start = next;
+                        end = i;
+                        next = i + 1;
+                        return true;
+                    }
+                }
+                if (eof) {
+                    start = next;
+                    end = limit;
+                    next = limit;
+                    return start < end;
+                }
+                if (next > 0) {
+                    System.arraycopy(buffer, next, buffer, 0, limit - next);
+                    limit -= next;
+                    next = 0;
+                } else if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                scanned = limit;
+                int n = in.read(buffer, limit, buffer.length - limit);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    limit += n;
+                }
+            }
+        }
+
+        private boolean isBlank() {
+            for (int i = start; i < end; i++) {
+                byte b = buffer[i];
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
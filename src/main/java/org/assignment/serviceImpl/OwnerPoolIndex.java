@@ -0,0 +1,168 @@
+package org.assignment.serviceImpl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assignment.dtos.OwnerSlot;
+import org.assignment.repository.CalendarRepository;
+import org.assignment.tenant.TenantContext;
+import org.assignment.tenant.TenantOwner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered index of the available slots of an owner pool, for "first free across the pool" queries.
+ * A pool's index is built from the repository the first time the pool is queried and afterwards kept current by
+ * {@link #onOwnerDateChanged}, so a query reads only the first entries after its start time instead of every owner.
+ * At most {@code calendar.pools.max-pools} pools are indexed; the least recently queried one is dropped beyond that.
+ * Pools and owners belong to the tenant of the calling thread, so equal owner ids of different tenants never mix.
+ */
+@Component
+public class OwnerPoolIndex {
+    private static final int LOCK_STRIPES = 64;
+
+    private final CalendarRepository calendarRepository;
+    private final int maxPools;
+    private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<TenantOwner, Set<Pool>> poolsByOwner = new ConcurrentHashMap<>();
+    // Serializes loading and refreshing the entries of one owner, so refreshes cannot be applied out of order
+    private final Object[] ownerLocks = new Object[LOCK_STRIPES];
+    private final AtomicLong clock = new AtomicLong();
+
+    public OwnerPoolIndex(CalendarRepository calendarRepository, MeterRegistry meterRegistry,
+                          @Value("${calendar.pools.max-pools:1024}") int maxPools) {
+        this.calendarRepository = calendarRepository;
+        this.maxPools = maxPools;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            ownerLocks[i] = new Object();
+        }
+        Gauge.builder("calendar.pools.indexed", pools, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Returns up to {@code limit} available slots of the pool at or after the given date and time, in time order.
+     * A start before today is moved to today, and entries of days that have passed are dropped from the pool first.
+     */
+    public List<OwnerSlot> findEarliest(Collection<String> ownerIds, LocalDate fromDate, LocalTime fromTime, int limit) {
+        Pool pool = pool(ownerIds);
+        LocalDate today = LocalDate.now();
+        Entry todayStart = new Entry(today, LocalTime.MIDNIGHT, "");
+        pool.slots.headSet(todayStart).clear();
+        Entry start = fromDate.isBefore(today) ? todayStart : new Entry(fromDate, fromTime, "");
+        List<OwnerSlot> result = new ArrayList<>(limit);
+        for (Entry entry : pool.slots.tailSet(start)) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(new OwnerSlot(entry.ownerId, entry.date, entry.startTime));
+        }
+        return result;
+    }
+
+    /** Re-reads the owner's availability for the date into every indexed pool containing the owner. */
+    public void onOwnerDateChanged(String ownerId, LocalDate date) {
+        TenantOwner owner = TenantOwner.of(ownerId);
+        Set<Pool> ownerPools = poolsByOwner.get(owner);
+        if (ownerPools == null || ownerPools.isEmpty()) {
+            return;
+        }
+        synchronized (lockFor(owner)) {
+            NavigableSet<LocalTime> available = calendarRepository.findAvailability(ownerId, date);
+            for (Pool pool : ownerPools) {
+                replaceDay(pool, ownerId, date, available == null ? List.of() : available);
+            }
+        }
+    }
+
+    private Pool pool(Collection<String> ownerIds) {
+        PoolKey key = new PoolKey(TenantContext.current(), ownerIds.stream().distinct().sorted().toList());
+        Pool pool = pools.computeIfAbsent(key, Pool::new);
+        pool.lastUsed = clock.incrementAndGet();
+        synchronized (pool) {
+            if (!pool.built) {
+                build(pool);
+                pool.built = true;
+                evictIfNeeded();
+            }
+        }
+        return pool;
+    }
+
+    private void build(Pool pool) {
+        LocalDate today = LocalDate.now();
+        for (String ownerId : pool.key.ownerIds()) {
+            TenantOwner owner = new TenantOwner(pool.key.tenantId(), ownerId);
+            synchronized (lockFor(owner)) {
+                // Register first so changes committed after the read below are applied by onOwnerDateChanged
+                poolsByOwner.computeIfAbsent(owner, id -> ConcurrentHashMap.newKeySet()).add(pool);
+                calendarRepository.findAllAvailability(ownerId).tailMap(today, true).forEach((date, times) -> {
+                    for (LocalTime time : times) {
+                        pool.slots.add(new Entry(date, time, ownerId));
+                    }
+                });
+            }
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (pools.size() > maxPools) {
+            Optional<Pool> oldest = pools.values().stream().min(Comparator.comparingLong(p -> p.lastUsed));
+            if (oldest.isEmpty()) {
+                return;
+            }
+            Pool evicted = oldest.get();
+            pools.remove(evicted.key, evicted);
+            for (String ownerId : evicted.key.ownerIds()) {
+                Set<Pool> ownerPools = poolsByOwner.get(new TenantOwner(evicted.key.tenantId(), ownerId));
+                if (ownerPools != null) {
+                    ownerPools.remove(evicted);
+                }
+            }
+        }
+    }
+
+    private static void replaceDay(Pool pool, String ownerId, LocalDate date, Collection<LocalTime> available) {
+        // Slots are aligned to whole hours, so clearing the day is at most one removal per hour
+        for (int hour = 0; hour < 24; hour++) {
+            pool.slots.remove(new Entry(date, LocalTime.of(hour, 0), ownerId));
+        }
+        for (LocalTime time : available) {
+            pool.slots.add(new Entry(date, time, ownerId));
+        }
+    }
+
+    private Object lockFor(TenantOwner owner) {
+        return ownerLocks[Math.floorMod(owner.hashCode(), LOCK_STRIPES)];
+    }
+
+    private record PoolKey(String tenantId, List<String> ownerIds) {
+    }
+
+    private static final class Pool {
+        private final PoolKey key;
+        private final NavigableSet<Entry> slots = new ConcurrentSkipListSet<>();
+        private volatile boolean built;
+        private volatile long lastUsed;
+
+        private Pool(PoolKey key) {
+            this.key = key;
+        }
+    }
+
+    private record Entry(LocalDate date, LocalTime startTime, String ownerId) implements Comparable<Entry> {
+        private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::date)
+                .thenComparing(Entry::startTime)
+                .thenComparing(Entry::ownerId);
+
+        @Override
+        public int compareTo(Entry other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
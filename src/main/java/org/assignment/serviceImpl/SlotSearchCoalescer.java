@@ -0,0 +1,48 @@
+package org.assignment.serviceImpl;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assignment.dtos.DaySlots;
+import org.assignment.tenant.TenantOwner;
+import org.assignment.utils.SingleFlight;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs at most one slot search per owner and data version at a time; concurrent identical searches share the result.
+ * The version is bumped after every change to the owner's availability, so a caller never joins a search that
+ * started before a change it has already observed. Owners are keyed within the current tenant.
+ */
+@Component
+public class SlotSearchCoalescer {
+    private final Map<TenantOwner, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final SingleFlight<SearchKey, List<DaySlots>> flights = new SingleFlight<>();
+
+    public SlotSearchCoalescer(MeterRegistry meterRegistry) {
+        Gauge.builder("calendar.search.calls", flights, SingleFlight::calls).register(meterRegistry);
+        Gauge.builder("calendar.search.coalesced", flights, SingleFlight::coalesced).register(meterRegistry);
+        Gauge.builder("calendar.search.coalescing.ratio", flights,
+                f -> f.calls() == 0 ? 0.0 : (double) f.coalesced() / f.calls()).register(meterRegistry);
+    }
+
+    /** Returns the loader's result, shared with any concurrent search of the same owner and version. */
+    public List<DaySlots> search(String ownerId, Supplier<List<DaySlots>> loader) {
+        TenantOwner owner = TenantOwner.of(ownerId);
+        AtomicLong version = versions.get(owner);
+        SearchKey key = new SearchKey(owner, version == null ? 0 : version.get());
+        return flights.execute(key, loader);
+    }
+
+    /** Marks the owner's availability as changed; call after the change is applied. */
+    public void invalidate(String ownerId) {
+        versions.computeIfAbsent(TenantOwner.of(ownerId), owner -> new AtomicLong()).incrementAndGet();
+    }
+
+    private record SearchKey(TenantOwner owner, long version) {
+    }
+}
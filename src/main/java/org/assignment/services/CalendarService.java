@@ -2,7 +2,9 @@ package org.assignment.services;
 
 import org.assignment.dtos.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CalendarService {
     AvailabilityRuleResponse setAvailability(AvailabilityRuleRequest request);
@@ -12,6 +14,18 @@ public interface CalendarService {
     AppointmentResponse bookAppointment(BookAppointmentRequest request);
 
     List<AppointmentResponse> listUpcomingAppointments(String ownerId);
+
+    List<OwnerSlot> findEarliestAvailableSlots(EarliestSlotsRequest request);
+
+    UtilizationStats getUtilizationStats(String ownerId, LocalDate fromDate, LocalDate toDate, StatsPeriod period);
+
+    List<AppointmentResponse> listAppointmentsInRange(String ownerId, LocalDate fromDate, LocalDate toDate);
+
+    List<DaySlots> searchAvailableSlotsInRange(String ownerId, LocalDate fromDate, LocalDate toDate);
+
+    void forEachOwner(Consumer<String> action);
+
+    ImportResult importOwnerRecords(String ownerId, List<TransferRecord> records);
 }
 
 
@@ -0,0 +1,95 @@
+package org.assignment.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Off-heap cold tier: a memory-mapped file of fixed-size segments, each holding one int per day for
+ * {@link #DAYS_PER_SEGMENT} consecutive days of a single owner. The file grows in mapped chunks and freed
+ * segments are reused. Callers serialize access to a given segment; allocation is synchronized here.
+ */
+class MappedSlotFile implements Closeable {
+    static final int DAYS_PER_SEGMENT = 64;
+    private static final int SEGMENT_BYTES = DAYS_PER_SEGMENT * Integer.BYTES;
+    private static final int SEGMENTS_PER_CHUNK = 4096; // 1 MiB mapped at a time
+
+    private final Path path;
+    private final boolean deleteOnClose;
+    private final FileChannel channel;
+    private final Deque<Integer> freeSegments = new ArrayDeque<>();
+    private volatile List<MappedByteBuffer> chunks = List.of();
+    private int allocatedSegments;
+
+    MappedSlotFile(Path path, boolean deleteOnClose) throws IOException {
+        this.path = path;
+        this.deleteOnClose = deleteOnClose;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        if (deleteOnClose) {
+            path.toFile().deleteOnExit();
+        }
+    }
+
+    /** Returns the index of a zero-filled segment. */
+    synchronized int allocate() throws IOException {
+        Integer reused = freeSegments.poll();
+        if (reused != null) {
+            return reused;
+        }
+        int segment = allocatedSegments;
+        if (segment / SEGMENTS_PER_CHUNK == chunks.size()) {
+            List<MappedByteBuffer> grown = new ArrayList<>(chunks);
+            long offset = (long) chunks.size() * SEGMENTS_PER_CHUNK * SEGMENT_BYTES;
+            grown.add(channel.map(FileChannel.MapMode.READ_WRITE, offset, (long) SEGMENTS_PER_CHUNK * SEGMENT_BYTES));
+            chunks = grown;
+        }
+        allocatedSegments++;
+        return segment;
+    }
+
+    /** Zeroes the segment and makes it available for reuse. */
+    synchronized void free(int segment) {
+        for (int day = 0; day < DAYS_PER_SEGMENT; day++) {
+            write(segment, day, 0);
+        }
+        freeSegments.push(segment);
+    }
+
+    int read(int segment, int day) {
+        return chunk(segment).getInt(offset(segment, day));
+    }
+
+    void write(int segment, int day, int value) {
+        chunk(segment).putInt(offset(segment, day), value);
+    }
+
+    /** Bytes of the file currently in use by live segments. */
+    synchronized long usedBytes() {
+        return (long) (allocatedSegments - freeSegments.size()) * SEGMENT_BYTES;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+        if (deleteOnClose) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private MappedByteBuffer chunk(int segment) {
+        return chunks.get(segment / SEGMENTS_PER_CHUNK);
+    }
+
+    private static int offset(int segment, int day) {
+        return (segment % SEGMENTS_PER_CHUNK) * SEGMENT_BYTES + day * Integer.BYTES;
+    }
+}
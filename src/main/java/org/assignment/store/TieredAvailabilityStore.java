@@ -0,0 +1,350 @@
+package org.assignment.store;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assignment.diagnostics.OperationRecorder;
+import org.assignment.utils.SlotMask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Per-owner, per-date available slot start times, split into two tiers:
+ * near-term and recently used days are kept on the heap as sorted sets, while far-future idle days are stored
+ * off-heap as slot bitmasks in a {@link MappedSlotFile}. Point lookups of a cold day promote it back to the heap, while
+ * booking a slot clears its bit in place; {@link #rebalance()} periodically demotes idle far-future days and promotes
+ * days entering the hot window.
+ * All operations on one owner are serialized on that owner's lock; contended waits, including those behind
+ * {@link #rebalance()}, are reported to the JFR operation event like the repository's owner locks.
+ */
+public class TieredAvailabilityStore {
+    // Marks a stored cold day, so a day whose slots are all booked is still distinguishable from "no availability".
+    private static final int PRESENT = 1 << 31;
+
+    private final TieredStoreProperties properties;
+    private final MappedSlotFile coldFile;
+    private final Map<String, OwnerDays> owners = new ConcurrentHashMap<>();
+    private final AtomicLong hotDayCount = new AtomicLong();
+    private final AtomicLong coldDayCount = new AtomicLong();
+
+    public TieredAvailabilityStore(TieredStoreProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, "default");
+    }
+
+    /**
+     * A store for one tenant's partition; its metrics carry a {@code tenant} tag, and a configured cold file gets
+     * the tenant id appended (except for the default tenant) so partitions never share a file.
+     */
+    public TieredAvailabilityStore(TieredStoreProperties properties, MeterRegistry meterRegistry, String tenantId) {
+        this.properties = properties;
+        try {
+            this.coldFile = properties.getColdFile().isBlank()
+                    ? new MappedSlotFile(Files.createTempFile("calendar-cold-" + tenantId + "-", ".slots"), true)
+                    : new MappedSlotFile(Path.of(coldFilePath(properties.getColdFile(), tenantId)), false);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open cold availability file", ex);
+        }
+        Gauge.builder("calendar.store.hot.days", hotDayCount, AtomicLong::get).tag("tenant", tenantId).register(meterRegistry);
+        Gauge.builder("calendar.store.cold.days", coldDayCount, AtomicLong::get).tag("tenant", tenantId).register(meterRegistry);
+        Gauge.builder("calendar.store.cold.bytes", coldFile, MappedSlotFile::usedBytes).tag("tenant", tenantId).register(meterRegistry);
+    }
+
+    /** Replaces the owner's availability for the date, placing it in the tier its distance from today calls for. */
+    public void put(String ownerId, LocalDate date, Collection<LocalTime> startTimes) {
+        OwnerDays days = owners.computeIfAbsent(ownerId, id -> new OwnerDays());
+        lock(days);
+        try {
+            if (isHotDate(date)) {
+                removeCold(days, date);
+                putHot(days, date, new TreeSet<>(startTimes));
+            } else {
+                removeHot(days, date);
+                writeCold(days, date, PRESENT | SlotMask.of(startTimes));
+            }
+        } finally {
+            days.lock.unlock();
+        }
+    }
+
+    /** Returns a copy of the available start times for the date, or null if none was set. Promotes cold days. */
+    public NavigableSet<LocalTime> get(String ownerId, LocalDate date) {
+        OwnerDays days = owners.get(ownerId);
+        if (days == null) {
+            return null;
+        }
+        lock(days);
+        try {
+            HotDay day = promote(days, date);
+            return day == null ? null : new TreeSet<>(day.slots);
+        } finally {
+            days.lock.unlock();
+        }
+    }
+
+    /** Whether the date has stored availability, in either tier. Reads a cold day in place rather than promoting it. */
+    public boolean contains(String ownerId, LocalDate date) {
+        OwnerDays days = owners.get(ownerId);
+        if (days == null) {
+            return false;
+        }
+        lock(days);
+        try {
+            return days.hot.containsKey(date) || readCold(days, date) != 0;
+        } finally {
+            days.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes one start time if it is still available; returns false if the date or slot is not available.
+     * A cold day stays in the file, so bulk bookings of far-future days (e.g. an import) do not pull them onto the heap.
+     */
+    public boolean removeSlot(String ownerId, LocalDate date, LocalTime start) {
+        OwnerDays days = owners.get(ownerId);
+        if (days == null) {
+            return false;
+        }
+        lock(days);
+        try {
+            HotDay day = days.hot.get(date);
+            if (day != null) {
+                day.lastAccessNanos = System.nanoTime();
+                return day.slots.remove(start);
+            }
+            int value = readCold(days, date);
+            int bit = 1 << start.getHour();
+            if ((value & bit) == 0 || !start.equals(LocalTime.of(start.getHour(), 0))) {
+                return false;
+            }
+            writeCold(days, date, value & ~bit);
+            return true;
+        } finally {
+            days.lock.unlock();
+        }
+    }
+
+    /** Returns all of the owner's days sorted by date. A read-only scan, so cold days are decoded in place, not promoted. */
+    public NavigableMap<LocalDate, List<LocalTime>> snapshot(String ownerId) {
+        NavigableMap<LocalDate, List<LocalTime>> result = new TreeMap<>();
+        OwnerDays days = owners.get(ownerId);
+        if (days == null) {
+            return result;
+        }
+        lock(days);
+        try {
+            days.hot.forEach((date, day) -> result.put(date, new ArrayList<>(day.slots)));
+            days.cold.forEach((baseDay, segment) -> {
+                for (int offset = 0; offset < MappedSlotFile.DAYS_PER_SEGMENT; offset++) {
+                    int value = coldFile.read(segment.index, offset);
+                    if (value != 0) {
+                        result.put(LocalDate.ofEpochDay(baseDay + offset), SlotMask.toStartTimes(value & ~PRESENT));
+                    }
+                }
+            });
+        } finally {
+            days.lock.unlock();
+        }
+        return result;
+    }
+
+    /** Visits owners that currently have stored days; owners added or emptied meanwhile may or may not be seen. */
+    public void forEachOwner(Consumer<String> action) {
+        owners.forEach((ownerId, days) -> {
+            if (hasOwner(ownerId)) {
+                action.accept(ownerId);
+            }
+        });
+    }
+
+    public boolean hasOwner(String ownerId) {
+        OwnerDays days = owners.get(ownerId);
+        if (days == null) {
+            return false;
+        }
+        lock(days);
+        try {
+            return !days.hot.isEmpty() || !days.cold.isEmpty();
+        } finally {
+            days.lock.unlock();
+        }
+    }
+
+    /**
+     * Moves far-future days that have been idle for {@code calendar.store.idle-minutes} to the cold tier, and brings
+     * cold days that are now within the hot window back onto the heap.
+     */
+    public void rebalance() {
+        long idleBefore = System.nanoTime() - TimeUnit.MINUTES.toNanos(properties.getIdleMinutes());
+        LocalDate hotUntil = hotUntil();
+        for (OwnerDays days : owners.values()) {
+            lock(days);
+            try {
+                List<LocalDate> toDemote = new ArrayList<>();
+                days.hot.tailMap(hotUntil, false).forEach((date, day) -> {
+                    if (day.lastAccessNanos - idleBefore < 0) {
+                        toDemote.add(date);
+                    }
+                });
+                for (LocalDate date : toDemote) {
+                    HotDay day = removeHot(days, date);
+                    writeCold(days, date, PRESENT | SlotMask.of(day.slots));
+                }
+                List<LocalDate> toPromote = new ArrayList<>();
+                days.cold.headMap(hotUntil.toEpochDay(), true).forEach((baseDay, segment) -> {
+                    for (int offset = 0; offset < MappedSlotFile.DAYS_PER_SEGMENT; offset++) {
+                        LocalDate date = LocalDate.ofEpochDay(baseDay + offset);
+                        if (!date.isAfter(hotUntil) && coldFile.read(segment.index, offset) != 0) {
+                            toPromote.add(date);
+                        }
+                    }
+                });
+                toPromote.forEach(date -> promote(days, date));
+            } finally {
+                days.lock.unlock();
+            }
+        }
+    }
+
+    private static String coldFilePath(String configured, String tenantId) {
+        return "default".equals(tenantId) ? configured : configured + "." + tenantId;
+    }
+
+    public long hotDays() {
+        return hotDayCount.get();
+    }
+
+    public long coldDays() {
+        return coldDayCount.get();
+    }
+
+    public long coldBytes() {
+        return coldFile.usedBytes();
+    }
+
+    public void close() throws IOException {
+        coldFile.close();
+    }
+
+    private boolean isHotDate(LocalDate date) {
+        return !date.isAfter(hotUntil());
+    }
+
+    private LocalDate hotUntil() {
+        return LocalDate.now().plusDays(properties.getHotDays());
+    }
+
+    /** Returns the hot entry for the date, moving it out of the cold tier first if needed. */
+    private HotDay promote(OwnerDays days, LocalDate date) {
+        HotDay day = days.hot.get(date);
+        if (day == null) {
+            int value = removeCold(days, date);
+            if (value == 0) {
+                return null;
+            }
+            day = putHot(days, date, new TreeSet<>(SlotMask.toStartTimes(value & ~PRESENT)));
+        }
+        day.lastAccessNanos = System.nanoTime();
+        return day;
+    }
+
+    private HotDay putHot(OwnerDays days, LocalDate date, NavigableSet<LocalTime> slots) {
+        HotDay day = new HotDay(slots);
+        if (days.hot.put(date, day) == null) {
+            hotDayCount.incrementAndGet();
+        }
+        return day;
+    }
+
+    private HotDay removeHot(OwnerDays days, LocalDate date) {
+        HotDay removed = days.hot.remove(date);
+        if (removed != null) {
+            hotDayCount.decrementAndGet();
+        }
+        return removed;
+    }
+
+    private void writeCold(OwnerDays days, LocalDate date, int value) {
+        long baseDay = Math.floorDiv(date.toEpochDay(), MappedSlotFile.DAYS_PER_SEGMENT) * MappedSlotFile.DAYS_PER_SEGMENT;
+        ColdSegment segment = days.cold.get(baseDay);
+        if (segment == null) {
+            try {
+                segment = new ColdSegment(coldFile.allocate());
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to grow cold availability file", ex);
+            }
+            days.cold.put(baseDay, segment);
+        }
+        int offset = (int) (date.toEpochDay() - baseDay);
+        if (coldFile.read(segment.index, offset) == 0) {
+            segment.liveDays++;
+            coldDayCount.incrementAndGet();
+        }
+        coldFile.write(segment.index, offset, value);
+    }
+
+    /** Returns the cold entry for the date without changing it (0 when absent). */
+    private int readCold(OwnerDays days, LocalDate date) {
+        long baseDay = Math.floorDiv(date.toEpochDay(), MappedSlotFile.DAYS_PER_SEGMENT) * MappedSlotFile.DAYS_PER_SEGMENT;
+        ColdSegment segment = days.cold.get(baseDay);
+        return segment == null ? 0 : coldFile.read(segment.index, (int) (date.toEpochDay() - baseDay));
+    }
+
+    /** Clears the cold entry for the date and returns its previous value (0 when absent). */
+    private int removeCold(OwnerDays days, LocalDate date) {
+        long baseDay = Math.floorDiv(date.toEpochDay(), MappedSlotFile.DAYS_PER_SEGMENT) * MappedSlotFile.DAYS_PER_SEGMENT;
+        ColdSegment segment = days.cold.get(baseDay);
+        if (segment == null) {
+            return 0;
+        }
+        int offset = (int) (date.toEpochDay() - baseDay);
+        int value = coldFile.read(segment.index, offset);
+        if (value != 0) {
+            coldFile.write(segment.index, offset, 0);
+            coldDayCount.decrementAndGet();
+            if (--segment.liveDays == 0) {
+                days.cold.remove(baseDay);
+                coldFile.free(segment.index);
+            }
+        }
+        return value;
+    }
+
+    private static void lock(OwnerDays days) {
+        OperationRecorder.lock(days.lock);
+    }
+
+    private static final class OwnerDays {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final NavigableMap<LocalDate, HotDay> hot = new TreeMap<>();
+        // Segment base epoch day -> segment of the cold file
+        private final NavigableMap<Long, ColdSegment> cold = new TreeMap<>();
+    }
+
+    private static final class HotDay {
+        private final NavigableSet<LocalTime> slots;
+        private long lastAccessNanos = System.nanoTime();
+
+        private HotDay(NavigableSet<LocalTime> slots) {
+            this.slots = slots;
+        }
+    }
+
+    private static final class ColdSegment {
+        private final int index;
+        private int liveDays;
+
+        private ColdSegment(int index) {
+            this.index = index;
+        }
+    }
+}
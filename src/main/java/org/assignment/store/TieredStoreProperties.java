@@ -0,0 +1,15 @@
+package org.assignment.store;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "calendar.store")
+public class TieredStoreProperties {
+    // Dates up to today + hotDays always stay in the heap tier.
+    private int hotDays = 14;
+    // A far-future day is moved to the cold tier once it has not been touched for this long.
+    private long idleMinutes = 30;
+    // Backing file of the cold tier; a temp file (deleted on shutdown) when empty.
+    private String coldFile = "";
+}
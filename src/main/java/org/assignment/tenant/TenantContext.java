@@ -0,0 +1,51 @@
+package org.assignment.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * The tenant the current thread works for. Set per request by {@link TenantInterceptor}; work handed to other threads
+ * captures {@link #current()} and runs under it with {@link #callAs}/{@link #runAs}.
+ * Threads without a tenant act for {@link #DEFAULT_TENANT}.
+ */
+public final class TenantContext {
+    public static final String DEFAULT_TENANT = "default";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String current() {
+        String tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    static void set(String tenantId) {
+        CURRENT.set(tenantId);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T callAs(String tenantId, Supplier<T> action) {
+        String previous = CURRENT.get();
+        CURRENT.set(tenantId);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public static void runAs(String tenantId, Runnable action) {
+        callAs(tenantId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
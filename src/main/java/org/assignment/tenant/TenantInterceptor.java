@@ -0,0 +1,52 @@
+package org.assignment.tenant;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.assignment.exceptions.BadRequestException;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.regex.Pattern;
+
+/**
+ * Binds each request to the tenant named in the {@value #TENANT_HEADER} header, or the default tenant without one.
+ * Tenants that are not configured ({@link TenantProperties#isKnown}) are rejected, so a client cannot create
+ * partitions by inventing ids.
+ */
+public class TenantInterceptor implements AsyncHandlerInterceptor {
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final TenantProperties properties;
+
+    public TenantInterceptor(TenantProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenantId = request.getHeader(TENANT_HEADER);
+        if (tenantId == null || tenantId.isBlank()) {
+            TenantContext.set(TenantContext.DEFAULT_TENANT);
+            return true;
+        }
+        if (!TENANT_ID.matcher(tenantId).matches()) {
+            throw new BadRequestException(TENANT_HEADER + " must be 1-64 letters, digits, '.', '_' or '-'");
+        }
+        if (!properties.isKnown(tenantId)) {
+            throw new BadRequestException("Unknown tenant " + tenantId);
+        }
+        TenantContext.set(tenantId);
+        return true;
+    }
+
+    // Streaming bodies continue on another thread, which captures the tenant itself
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        TenantContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        TenantContext.clear();
+    }
+}
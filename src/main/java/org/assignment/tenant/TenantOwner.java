@@ -0,0 +1,10 @@
+package org.assignment.tenant;
+
+/** An owner id qualified by its tenant, for state shared across tenants such as caches and indices. */
+public record TenantOwner(String tenantId, String ownerId) {
+
+    /** The owner in the current thread's tenant. */
+    public static TenantOwner of(String ownerId) {
+        return new TenantOwner(TenantContext.current(), ownerId);
+    }
+}
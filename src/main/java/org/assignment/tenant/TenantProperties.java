@@ -0,0 +1,42 @@
+package org.assignment.tenant;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tenant registry and partition limits ({@code calendar.tenants.*}). A limit of 0 means unlimited.
+ * Only known tenants are served: {@code default}, those listed in {@code allowed}, and those with a quota entry,
+ * unless {@code allow-unknown} opens tenant creation to any well-formed id.
+ */
+@Data
+@ConfigurationProperties(prefix = "calendar.tenants")
+public class TenantProperties {
+    /** Tenants served in addition to {@code default} and those under {@code quotas}. */
+    private List<String> allowed = new ArrayList<>();
+    /** Serve any well-formed tenant id; each new one creates a partition, so enable only behind authentication. */
+    private boolean allowUnknown = false;
+    /** Most partitions created; requests writing for further tenants are throttled. */
+    private int maxTenants = 1000;
+    /** Default per-tenant limit on stored owner-days plus appointments. */
+    private long maxEntries = 0;
+    /** Default per-tenant limit on estimated heap bytes of its partition. */
+    private long maxBytes = 0;
+    /** Per-tenant overrides of the defaults, keyed by tenant id. */
+    private Map<String, Quota> quotas = new HashMap<>();
+
+    public boolean isKnown(String tenantId) {
+        return allowUnknown || TenantContext.DEFAULT_TENANT.equals(tenantId)
+                || allowed.contains(tenantId) || quotas.containsKey(tenantId);
+    }
+
+    @Data
+    public static class Quota {
+        private Long maxEntries;
+        private Long maxBytes;
+    }
+}
@@ -0,0 +1,59 @@
+package org.assignment.tenant;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.assignment.exceptions.QuotaExceededException;
+import org.assignment.repository.StorageUsage;
+import org.springframework.stereotype.Component;
+
+/**
+ * The per-tenant entry and memory quotas of {@link TenantProperties}, checked by the partitioned repository before
+ * writes that grow a tenant's partition. A tenant at its limit can still replace availability of dates it already
+ * stores, but cannot add dates or appointments. Every rejection counts towards {@code calendar.tenant.throttled}.
+ */
+@Component
+public class TenantQuotas {
+    private final TenantProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public TenantQuotas(TenantProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean hasLimits(String tenantId) {
+        return maxEntries(tenantId) > 0 || maxBytes(tenantId) > 0;
+    }
+
+    /**
+     * Admits one more write that may add an entry, given the partition's usage and the number of such writes in
+     * flight including this one. In-flight writes are counted as entries of the partition's average size, so
+     * concurrent writers cannot all pass on the same usage reading.
+     * @throws QuotaExceededException when the write could take the tenant beyond its quota
+     */
+    public void check(String tenantId, StorageUsage usage, long inFlight) {
+        long maxEntries = maxEntries(tenantId);
+        long maxBytes = maxBytes(tenantId);
+        if (maxEntries > 0 && usage.entries() + inFlight > maxEntries) {
+            throw throttled(tenantId, "Tenant " + tenantId + " has reached its limit of " + maxEntries + " entries");
+        }
+        long averageEntryBytes = usage.entries() == 0 ? 0 : usage.estimatedBytes() / usage.entries();
+        if (maxBytes > 0 && usage.estimatedBytes() + (inFlight - 1) * averageEntryBytes >= maxBytes) {
+            throw throttled(tenantId, "Tenant " + tenantId + " has reached its storage limit of " + maxBytes + " bytes");
+        }
+    }
+
+    private QuotaExceededException throttled(String tenantId, String message) {
+        meterRegistry.counter("calendar.tenant.throttled", "tenant", tenantId).increment();
+        return new QuotaExceededException(message);
+    }
+
+    private long maxEntries(String tenantId) {
+        TenantProperties.Quota quota = properties.getQuotas().get(tenantId);
+        return quota != null && quota.getMaxEntries() != null ? quota.getMaxEntries() : properties.getMaxEntries();
+    }
+
+    private long maxBytes(String tenantId) {
+        TenantProperties.Quota quota = properties.getQuotas().get(tenantId);
+        return quota != null && quota.getMaxBytes() != null ? quota.getMaxBytes() : properties.getMaxBytes();
+    }
+}
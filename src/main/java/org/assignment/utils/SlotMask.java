@@ -0,0 +1,32 @@
+package org.assignment.utils;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Encodes a day's hourly slot start times as a bitmask, bit {@code h} set meaning a slot starting at {@code h:00}.
+ * Slots are always aligned to whole hours, so 24 bits cover a full day.
+ */
+public final class SlotMask {
+    private SlotMask() {}
+
+    public static final int SLOTS_PER_DAY = 24;
+
+    public static int of(Collection<LocalTime> startTimes) {
+        int mask = 0;
+        for (LocalTime time : startTimes) {
+            mask |= 1 << time.getHour();
+        }
+        return mask;
+    }
+
+    public static List<LocalTime> toStartTimes(int mask) {
+        List<LocalTime> times = new ArrayList<>(Integer.bitCount(mask));
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            times.add(LocalTime.of(Integer.numberOfTrailingZeros(bits), 0));
+        }
+        return times;
+    }
+}
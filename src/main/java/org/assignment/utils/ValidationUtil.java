@@ -2,6 +2,8 @@ package org.assignment.utils;
 
 import org.assignment.dtos.AvailabilityRuleRequest;
 import org.assignment.dtos.BookAppointmentRequest;
+import org.assignment.dtos.BulkReadRequest;
+import org.assignment.dtos.EarliestSlotsRequest;
 import org.assignment.exceptions.BadRequestException;
 import org.springframework.stereotype.Component;
 
@@ -11,6 +13,13 @@ import java.time.temporal.ChronoUnit;
 
 @Component
 public class ValidationUtil {
+    // Upper bound for the number of slots returned by one earliest-available-slots query.
+    public static final int MAX_EARLIEST_SLOTS = 500;
+    // Upper bound for the number of owners in one bulk read.
+    public static final int MAX_BULK_OWNERS = 1000;
+    // Upper bound for the number of days in one utilization statistics query.
+    public static final int MAX_STATS_DAYS = 731;
+
     /**
      * Validates owner/date/time window for setting availability.
      * checking owner id present
@@ -70,4 +79,53 @@ public class ValidationUtil {
             throw new BadRequestException("inviteeEmail is required");
         }
     }
+
+    /** Validates the owner pool and limit of an earliest-available-slots query. */
+    public void validateEarliestSlotsReq(EarliestSlotsRequest request) {
+        if (request.getOwnerIds() == null || request.getOwnerIds().isEmpty()) {
+            throw new BadRequestException("ownerIds is required");
+        }
+        for (String ownerId : request.getOwnerIds()) {
+            if (ownerId == null || ownerId.isBlank()) {
+                throw new BadRequestException("ownerIds cannot contain blank values");
+            }
+        }
+        if (request.getLimit() != null && (request.getLimit() < 1 || request.getLimit() > MAX_EARLIEST_SLOTS)) {
+            throw new BadRequestException("limit must be between 1 and " + MAX_EARLIEST_SLOTS);
+        }
+    }
+
+    /** Validates the owner id and date range of a utilization statistics query. */
+    public void validateUtilizationReq(String ownerId, LocalDate fromDate, LocalDate toDate) {
+        if (ownerId == null || ownerId.isBlank()) {
+            throw new BadRequestException("ownerId is required");
+        }
+        if (fromDate == null || toDate == null) {
+            throw new BadRequestException("fromDate and toDate are required");
+        }
+        if (toDate.isBefore(fromDate)) {
+            throw new BadRequestException("toDate must not be before fromDate");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_STATS_DAYS) {
+            throw new BadRequestException("at most " + MAX_STATS_DAYS + " days can be queried at once");
+        }
+    }
+
+    /** Validates the owner list and date range of a multi-owner read. */
+    public void validateBulkReadReq(BulkReadRequest request) {
+        if (request.getOwnerIds() == null || request.getOwnerIds().isEmpty()) {
+            throw new BadRequestException("ownerIds is required");
+        }
+        if (request.getOwnerIds().size() > MAX_BULK_OWNERS) {
+            throw new BadRequestException("at most " + MAX_BULK_OWNERS + " ownerIds can be read at once");
+        }
+        for (String ownerId : request.getOwnerIds()) {
+            if (ownerId == null || ownerId.isBlank()) {
+                throw new BadRequestException("ownerIds cannot contain blank values");
+            }
+        }
+        if (request.getFromDate() != null && request.getToDate() != null && request.getToDate().isBefore(request.getFromDate())) {
+            throw new BadRequestException("toDate must not be before fromDate");
+        }
+    }
 }
@@ -0,0 +1,17 @@
+-- Upgrades a database created before tenant partitions (see calendar-schema.sql for the current layout).
+-- Existing rows become the default tenant's, and every key gains the leading tenant_id.
+
+ALTER TABLE availability_day ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL BEFORE owner_id;
+ALTER TABLE availability_day ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE availability_day DROP PRIMARY KEY;
+ALTER TABLE availability_day ADD PRIMARY KEY (tenant_id, owner_id, slot_date);
+
+ALTER TABLE availability_slot ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL BEFORE owner_id;
+ALTER TABLE availability_slot ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE availability_slot DROP PRIMARY KEY;
+ALTER TABLE availability_slot ADD PRIMARY KEY (tenant_id, owner_id, slot_date, start_time);
+
+ALTER TABLE appointment ADD COLUMN tenant_id VARCHAR(64) DEFAULT 'default' NOT NULL AFTER id;
+ALTER TABLE appointment ALTER COLUMN tenant_id DROP DEFAULT;
+ALTER TABLE appointment DROP CONSTRAINT uq_appointment_slot;
+ALTER TABLE appointment ADD CONSTRAINT uq_appointment_slot UNIQUE (tenant_id, owner_id, appt_date, start_time);
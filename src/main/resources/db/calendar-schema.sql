@@ -0,0 +1,31 @@
+-- Schema for JdbcCalendarRepository (calendar.repository=jdbc).
+-- Every row belongs to one tenant's partition; all keys lead with tenant_id.
+
+-- One row per owner-date with availability, kept even when every slot has been booked.
+CREATE TABLE IF NOT EXISTS availability_day (
+    tenant_id  VARCHAR(64)  NOT NULL,
+    owner_id   VARCHAR(255) NOT NULL,
+    slot_date  DATE         NOT NULL,
+    PRIMARY KEY (tenant_id, owner_id, slot_date)
+);
+
+-- Remaining bookable start times of each owner-date.
+CREATE TABLE IF NOT EXISTS availability_slot (
+    tenant_id  VARCHAR(64)  NOT NULL,
+    owner_id   VARCHAR(255) NOT NULL,
+    slot_date  DATE         NOT NULL,
+    start_time TIME         NOT NULL,
+    PRIMARY KEY (tenant_id, owner_id, slot_date, start_time)
+);
+
+CREATE TABLE IF NOT EXISTS appointment (
+    id            UUID         NOT NULL PRIMARY KEY,
+    tenant_id     VARCHAR(64)  NOT NULL,
+    owner_id      VARCHAR(255) NOT NULL,
+    appt_date     DATE         NOT NULL,
+    start_time    TIME         NOT NULL,
+    end_time      TIME         NOT NULL,
+    invitee_name  VARCHAR(255) NOT NULL,
+    invitee_email VARCHAR(255) NOT NULL,
+    CONSTRAINT uq_appointment_slot UNIQUE (tenant_id, owner_id, appt_date, start_time)
+);
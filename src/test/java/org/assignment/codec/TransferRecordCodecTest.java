@@ -0,0 +1,57 @@
+package org.assignment.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.assignment.dtos.TransferRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransferRecordCodecTest {
+
+    private final ObjectMapper beanMapper = new Jackson2ObjectMapperBuilder().build();
+    private final ObjectMapper codecMapper = new Jackson2ObjectMapperBuilder().build().registerModule(new SimpleModule()
+            .addSerializer(TransferRecord.class, new TransferRecordSerializer())
+            .addDeserializer(TransferRecord.class, new TransferRecordDeserializer()));
+
+    private final TransferRecord availability = new TransferRecord(TransferRecord.Type.AVAILABILITY, "owner",
+            LocalDate.of(2025, 1, 5), List.of(LocalTime.of(9, 0), LocalTime.of(14, 0)), null, null, null, null, null);
+    private final TransferRecord appointment = new TransferRecord(TransferRecord.Type.APPOINTMENT, "owner",
+            LocalDate.of(2025, 12, 31), null, UUID.randomUUID(), LocalTime.of(10, 0), LocalTime.of(11, 0), "A \"B\"", "a@b.com");
+
+    @Test
+    void serializer_writesSameJsonAsAnnotatedBean() throws Exception {
+        for (TransferRecord record : List.of(availability, appointment)) {
+            assertEquals(beanMapper.writeValueAsString(record), codecMapper.writeValueAsString(record));
+        }
+    }
+
+    @Test
+    void deserializer_readsBeanJsonAndSkipsUnknownFields() throws Exception {
+        for (TransferRecord record : List.of(availability, appointment)) {
+            assertEquals(record, codecMapper.readValue(beanMapper.writeValueAsString(record), TransferRecord.class));
+        }
+        TransferRecord withExtra = codecMapper.readValue(
+                "{\"type\":\"AVAILABILITY\",\"extra\":{\"a\":[1]},\"ownerId\":\"o\",\"date\":\"2025-01-05\",\"startTimes\":[]}",
+                TransferRecord.class);
+        assertEquals(new TransferRecord(TransferRecord.Type.AVAILABILITY, "o", LocalDate.of(2025, 1, 5), List.of(),
+                null, null, null, null, null), withExtra);
+    }
+
+    @Test
+    void deserializer_rejectsMalformedValues() {
+        assertThrows(InvalidFormatException.class, () -> codecMapper.readValue(
+                "{\"type\":\"AVAILABILITY\",\"date\":\"2025-13-01\"}", TransferRecord.class));
+        assertThrows(InvalidFormatException.class, () -> codecMapper.readValue(
+                "{\"type\":\"APPOINTMENT\",\"startTime\":\"1x:00\"}", TransferRecord.class));
+        assertThrows(InvalidFormatException.class, () -> codecMapper.readValue(
+                "{\"type\":\"MEETING\"}", TransferRecord.class));
+    }
+}
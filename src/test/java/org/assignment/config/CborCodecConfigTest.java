@@ -0,0 +1,66 @@
+package org.assignment.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.dtos.DaySlots;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborCodecConfigTest {
+
+    private final ObjectMapper cborMapper = new CborCodecConfig()
+            .cborHttpMessageConverter(new Jackson2ObjectMapperBuilder())
+            .getObjectMapper();
+
+    private final ObjectMapper jsonMapper = new Jackson2ObjectMapperBuilder().build();
+
+    @Test
+    void daySlots_areWrittenAsEpochDayAndSlotMask() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 20);
+        DaySlots slots = new DaySlots(date, List.of(LocalTime.of(10, 0), LocalTime.of(11, 0), LocalTime.of(15, 0)));
+
+        byte[] cbor = cborMapper.writeValueAsBytes(slots);
+        JsonNode node = cborMapper.readTree(cbor);
+        assertEquals(date.toEpochDay(), node.get("date").asLong());
+        assertEquals((1 << 10) | (1 << 11) | (1 << 15), node.get("slotMask").asInt());
+
+        assertEquals(slots, cborMapper.readValue(cbor, DaySlots.class));
+        assertTrue(cbor.length < jsonMapper.writeValueAsBytes(slots).length);
+    }
+
+    @Test
+    void jsonMapper_keepsTextualSlotFormat() throws Exception {
+        DaySlots slots = new DaySlots(LocalDate.of(2025, 1, 20), List.of(LocalTime.of(10, 0)));
+        String json = jsonMapper.writeValueAsString(slots);
+        assertEquals("{\"date\":\"2025-01-20\",\"availableStartTimes\":[\"10:00\"]}", json);
+        assertEquals(slots, jsonMapper.readValue(json, DaySlots.class));
+    }
+
+    @Test
+    void daySlots_copyTheirStartTimes() {
+        List<LocalTime> times = new ArrayList<>(List.of(LocalTime.of(10, 0)));
+        DaySlots slots = new DaySlots(LocalDate.of(2025, 1, 20), times);
+        times.add(LocalTime.of(11, 0));
+
+        assertEquals(List.of(LocalTime.of(10, 0)), slots.getAvailableStartTimes());
+        assertThrows(UnsupportedOperationException.class, () -> slots.getAvailableStartTimes().add(LocalTime.NOON));
+    }
+
+    @Test
+    void appointment_roundTripsThroughCbor() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 20);
+        AppointmentResponse appt = new AppointmentResponse(UUID.randomUUID(), "owner1", date,
+                LocalTime.of(10, 0), LocalTime.of(11, 0), "User", "u@example.com");
+
+        assertEquals(appt, cborMapper.readValue(cborMapper.writeValueAsBytes(appt), AppointmentResponse.class));
+    }
+}
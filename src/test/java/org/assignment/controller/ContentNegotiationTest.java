@@ -0,0 +1,83 @@
+package org.assignment.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.assignment.config.CborCodecConfig;
+import org.assignment.dtos.DaySlots;
+import org.assignment.serviceImpl.BulkReadStreamer;
+import org.assignment.services.CalendarService;
+import org.assignment.tenant.TenantProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(InviteeController.class)
+@Import(CborCodecConfig.class)
+@EnableConfigurationProperties(TenantProperties.class)
+class ContentNegotiationTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 20);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private CalendarService calendarService;
+
+    @MockBean
+    private BulkReadStreamer bulkReadStreamer;
+
+    @BeforeEach
+    void setUp() {
+        given(calendarService.searchAvailableSlots("owner1"))
+                .willReturn(List.of(new DaySlots(DATE, List.of(LocalTime.of(10, 0), LocalTime.of(11, 0)))));
+    }
+
+    @Test
+    void searchSlots_withCborAccept_returnsCompactCbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/invitee/slots").param("ownerId", "owner1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode day = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray()).get(0);
+        assertEquals(DATE.toEpochDay(), day.get("date").asLong());
+        assertEquals((1 << 10) | (1 << 11), day.get("slotMask").asInt());
+    }
+
+    @Test
+    void searchSlots_withoutAccept_returnsJson() throws Exception {
+        mockMvc.perform(get("/api/invitee/slots").param("ownerId", "owner1"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].date").value("2025-01-20"))
+                .andExpect(jsonPath("$[0].availableStartTimes[1]").value("11:00"));
+    }
+
+    @Test
+    void searchSlots_withJsonAccept_returnsJson() throws Exception {
+        mockMvc.perform(get("/api/invitee/slots").param("ownerId", "owner1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].availableStartTimes[0]").value("10:00"));
+    }
+}
@@ -3,6 +3,9 @@ package org.assignment.controller;
 import org.assignment.dtos.AppointmentResponse;
 import org.assignment.dtos.BookAppointmentRequest;
 import org.assignment.dtos.DaySlots;
+import org.assignment.dtos.EarliestSlotsRequest;
+import org.assignment.dtos.OwnerSlot;
+import org.assignment.serviceImpl.BulkReadStreamer;
 import org.assignment.services.CalendarService;
 import org.assignment.exceptions.BadRequestException;
 import org.junit.jupiter.api.Test;
@@ -27,6 +30,9 @@ class InviteeControllerTest {
     @Mock
     private CalendarService calendarService;
 
+    @Mock
+    private BulkReadStreamer bulkReadStreamer;
+
     @InjectMocks
     private InviteeController inviteeController;
 
@@ -71,6 +77,16 @@ class InviteeControllerTest {
 
         assertThrows(org.assignment.exceptions.ConflictException.class, () -> inviteeController.bookAppointment(req));
     }
-}
 
+    @Test
+    void earliestSlots_success() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        EarliestSlotsRequest req = new EarliestSlotsRequest(List.of("owner1", "owner2"), date, LocalTime.of(9, 0), 1);
+        List<OwnerSlot> serviceResp = List.of(new OwnerSlot("owner2", date, LocalTime.of(10, 0)));
+        given(calendarService.findEarliestAvailableSlots(req)).willReturn(serviceResp);
 
+        ResponseEntity<List<OwnerSlot>> response = inviteeController.earliestSlots(req);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(serviceResp, response.getBody());
+    }
+}
@@ -3,6 +3,9 @@ package org.assignment.controller;
 import org.assignment.dtos.AppointmentResponse;
 import org.assignment.dtos.AvailabilityRuleRequest;
 import org.assignment.dtos.AvailabilityRuleResponse;
+import org.assignment.dtos.StatsPeriod;
+import org.assignment.dtos.UtilizationStats;
+import org.assignment.serviceImpl.BulkReadStreamer;
 import org.assignment.services.CalendarService;
 import org.assignment.exceptions.BadRequestException;
 import org.junit.jupiter.api.Test;
@@ -27,6 +30,9 @@ class OwnerControllerTest {
     @Mock
     private CalendarService calendarService;
 
+    @Mock
+    private BulkReadStreamer bulkReadStreamer;
+
     @InjectMocks
     private OwnerController ownerController;
 
@@ -59,6 +65,15 @@ class OwnerControllerTest {
         given(calendarService.listUpcomingAppointments("")).willThrow(new BadRequestException("ownerId is required"));
         assertThrows(BadRequestException.class, () -> ownerController.listAppointments(""));
     }
-}
 
+    @Test
+    void utilizationStats_success() {
+        LocalDate from = LocalDate.now();
+        UtilizationStats stats = new UtilizationStats("owner1", from, from.plusDays(89), StatsPeriod.WEEK, null, List.of());
+        given(calendarService.getUtilizationStats("owner1", from, from.plusDays(89), StatsPeriod.WEEK)).willReturn(stats);
 
+        ResponseEntity<UtilizationStats> response = ownerController.utilizationStats("owner1", from, from.plusDays(89), StatsPeriod.WEEK);
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(stats, response.getBody());
+    }
+}
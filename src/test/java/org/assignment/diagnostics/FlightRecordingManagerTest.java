@@ -0,0 +1,142 @@
+package org.assignment.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.assignment.dtos.RecordingResponse;
+import org.assignment.exceptions.AvailabilityException;
+import org.assignment.exceptions.BadRequestException;
+import org.assignment.exceptions.ConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingManagerTest {
+
+    @Test
+    void recorder_commitsPhaseTimingsOnlyWhileEventIsEnabled() throws Exception {
+        OperationRecorder unrecorded = OperationRecorder.start("searchAvailableSlots", "owner0");
+        unrecorded.validated();
+        unrecorded.finish();
+
+        Path file = Files.createTempFile("recorder-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CalendarOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            OperationRecorder recorder = OperationRecorder.start("bookAppointment", "owner1");
+            recorder.validated();
+            OperationRecorder.lockWaited(1_000);
+            recorder.lookedUp();
+            recorder.resultSize(1);
+            recorder.failed(new AvailabilityException("Slot already booked"));
+            recorder.finish();
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("org.assignment.CalendarOperation"))
+                    .toList();
+            assertEquals(1, events.size());
+            RecordedEvent event = events.get(0);
+            assertEquals("bookAppointment", event.getString("operation"));
+            assertEquals("owner1", event.getString("ownerId"));
+            assertEquals("AvailabilityException", event.getString("outcome"));
+            assertEquals(1_000, event.getDuration("lockWaitTime").toNanos());
+            assertEquals(1, event.getInt("resultSize"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void lock_reportsContendedWaitOnly() throws Exception {
+        ReentrantLock lock = new ReentrantLock();
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            lock.lock();
+            try {
+                held.countDown();
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                lock.unlock();
+            }
+        });
+
+        Path file = Files.createTempFile("recorder-lock-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CalendarOperationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            OperationRecorder uncontended = OperationRecorder.start("searchAvailableSlots", "free");
+            OperationRecorder.lock(lock);
+            lock.unlock();
+            uncontended.finish();
+
+            holder.start();
+            held.await();
+            OperationRecorder contended = OperationRecorder.start("searchAvailableSlots", "busy");
+            // Let the holder go only once this thread is queued on the lock
+            Thread waiter = Thread.currentThread();
+            new Thread(() -> {
+                while (!lock.hasQueuedThread(waiter)) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+            }).start();
+            OperationRecorder.lock(lock);
+            lock.unlock();
+            contended.finish();
+            holder.join();
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals("org.assignment.CalendarOperation"))
+                    .toList();
+            assertEquals(2, events.size());
+            for (RecordedEvent event : events) {
+                long waited = event.getDuration("lockWaitTime").toNanos();
+                assertEquals(event.getString("ownerId").equals("busy"), waited > 0);
+            }
+        } finally {
+            release.countDown();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void start_rejectsOutOfRangeDurationAndConcurrentRecording_andOmitsEnvironmentEvents() throws Exception {
+        FlightRecordingManager manager = new FlightRecordingManager();
+        assertThrows(BadRequestException.class, manager::dump);
+        assertThrows(BadRequestException.class, () -> manager.start(0));
+        assertThrows(BadRequestException.class, () -> manager.start(FlightRecordingManager.MAX_DURATION_SECONDS + 1));
+
+        RecordingResponse started = manager.start(5);
+        assertEquals("RUNNING", started.getState());
+        assertEquals(5, started.getDurationSeconds());
+        assertThrows(ConflictException.class, () -> manager.start(5));
+
+        Path dump = manager.dump();
+        try {
+            assertTrue(Files.size(dump) > 0);
+            assertTrue(RecordingFile.readAllEvents(dump).stream()
+                    .noneMatch(e -> FlightRecordingManager.EXCLUDED_EVENTS.contains(e.getEventType().getName())));
+        } finally {
+            Files.deleteIfExists(dump);
+            manager.close();
+        }
+    }
+}
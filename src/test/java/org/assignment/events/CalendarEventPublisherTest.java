@@ -0,0 +1,110 @@
+package org.assignment.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.dtos.AppointmentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarEventPublisherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CalendarEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    void events_areDeliveredInOrderToEverySink() throws Exception {
+        RecordingSink first = new RecordingSink("first", null);
+        RecordingSink second = new RecordingSink("second", null);
+        publisher = start(properties(16, BackpressurePolicy.BLOCK), first, second);
+
+        LocalDate date = LocalDate.now().plusDays(1);
+        for (int i = 0; i < 100; i++) {
+            publisher.publishAppointmentBooked(new AppointmentResponse(UUID.randomUUID(), "owner-" + i, date,
+                    LocalTime.of(10, 0), LocalTime.of(11, 0), "User", "u@example.com"));
+        }
+        publisher.stop();
+
+        for (RecordingSink sink : List.of(first, second)) {
+            assertEquals(100, sink.owners.size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals("owner-" + i, sink.owners.get(i));
+            }
+        }
+        assertEquals(0, publisher.getDroppedCount());
+    }
+
+    @Test
+    void slowSink_dropsEventsInsteadOfBlockingPublisher() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink("slow", release);
+        publisher = start(properties(8, BackpressurePolicy.DROP), slow);
+
+        // The sink is parked on the latch for the whole loop, so publish must return without the consumer
+        // releasing any slot: exactly one ring of events is accepted and the rest are dropped.
+        for (int i = 0; i < 1_000; i++) {
+            publisher.publishAvailabilitySet("owner", LocalDate.now(), LocalTime.of(9, 0), LocalTime.of(17, 0));
+        }
+        assertTrue(slow.owners.isEmpty());
+        assertEquals(8, publisher.getPublishedCount());
+        assertEquals(992, publisher.getDroppedCount());
+        assertEquals(8.0, meterRegistry.get("calendar.events.lag").tag("sink", "slow").gauge().value());
+
+        release.countDown();
+        publisher.stop();
+        assertEquals(publisher.getPublishedCount(), slow.owners.size());
+        assertEquals(0.0, meterRegistry.get("calendar.events.lag").tag("sink", "slow").gauge().value());
+    }
+
+    private CalendarEventPublisher start(CalendarEventProperties properties, CalendarEventSink... sinks) {
+        CalendarEventPublisher started = new CalendarEventPublisher(properties, List.of(sinks), meterRegistry);
+        started.start();
+        return started;
+    }
+
+    private static CalendarEventProperties properties(int bufferSize, BackpressurePolicy policy) {
+        CalendarEventProperties properties = new CalendarEventProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setBatchSize(4);
+        properties.setBackpressure(policy);
+        return properties;
+    }
+
+    private static class RecordingSink implements CalendarEventSink {
+        private final String name;
+        private final CountDownLatch gate;
+        private final List<String> owners = new CopyOnWriteArrayList<>();
+
+        RecordingSink(String name, CountDownLatch gate) {
+            this.name = name;
+            this.gate = gate;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void accept(List<CalendarEvent> batch) throws InterruptedException {
+            if (gate != null) {
+                gate.await();
+            }
+            batch.forEach(event -> owners.add(event.getOwnerId()));
+        }
+    }
+}
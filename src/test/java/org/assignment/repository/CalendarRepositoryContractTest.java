@@ -0,0 +1,166 @@
+package org.assignment.repository;
+
+import org.assignment.dtos.AppointmentResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Behaviour every {@link CalendarRepository} backend must share. */
+abstract class CalendarRepositoryContractTest {
+
+    protected final LocalDate date = LocalDate.now().plusDays(1);
+    private final List<LocalTime> slots = List.of(LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+    protected abstract CalendarRepository repository();
+
+    @Test
+    void replaceAvailability_thenFind() {
+        assertNull(repository().findAvailability("owner", date));
+        assertTrue(repository().replaceAvailability("owner", date, slots));
+        assertTrue(repository().replaceAvailability("owner", date.plusDays(1), List.of(LocalTime.of(9, 0))));
+
+        assertEquals(slots, List.copyOf(repository().findAvailability("owner", date)));
+        NavigableMap<LocalDate, List<LocalTime>> all = repository().findAllAvailability("owner");
+        assertEquals(List.of(date, date.plusDays(1)), List.copyOf(all.keySet()));
+        assertTrue(repository().findAllAvailability("other").isEmpty());
+        assertTrue(repository().hasAvailability("owner", date));
+        assertFalse(repository().hasAvailability("owner", date.plusDays(2)));
+        assertFalse(repository().hasAvailability("other", date));
+    }
+
+    @Test
+    void book_removesSlotAndRejectsSecondBooking() {
+        repository().replaceAvailability("owner", date, slots);
+
+        assertTrue(repository().book(appointment("owner", date, LocalTime.of(10, 0))));
+        assertFalse(repository().book(appointment("owner", date, LocalTime.of(10, 0))));
+        assertFalse(repository().book(appointment("owner", date.plusDays(5), LocalTime.of(10, 0))));
+
+        assertEquals(List.of(LocalTime.of(11, 0)), List.copyOf(repository().findAvailability("owner", date)));
+        assertEquals(1, repository().findAppointmentsFrom("owner", date).size());
+    }
+
+    @Test
+    void fullyBookedDate_keepsEmptyAvailability() {
+        repository().replaceAvailability("owner", date, List.of(LocalTime.of(10, 0)));
+        repository().book(appointment("owner", date, LocalTime.of(10, 0)));
+
+        assertTrue(repository().findAvailability("owner", date).isEmpty());
+        assertTrue(repository().findAllAvailability("owner").get(date).isEmpty());
+    }
+
+    @Test
+    void replaceAvailability_whenBooked_returnsFalseAndKeepsSlots() {
+        repository().replaceAvailability("owner", date, slots);
+        repository().book(appointment("owner", date, LocalTime.of(10, 0)));
+
+        assertFalse(repository().replaceAvailability("owner", date, List.of(LocalTime.of(15, 0))));
+        assertEquals(List.of(LocalTime.of(11, 0)), List.copyOf(repository().findAvailability("owner", date)));
+    }
+
+    @Test
+    void findAppointmentsFrom_isSortedAndFiltered() {
+        repository().replaceAvailability("owner", date, slots);
+        repository().replaceAvailability("owner", date.plusDays(1), slots);
+        repository().book(appointment("owner", date.plusDays(1), LocalTime.of(10, 0)));
+        repository().book(appointment("owner", date, LocalTime.of(11, 0)));
+        repository().book(appointment("owner", date, LocalTime.of(10, 0)));
+
+        List<AppointmentResponse> all = repository().findAppointmentsFrom("owner", date);
+        assertEquals(List.of(LocalTime.of(10, 0), LocalTime.of(11, 0), LocalTime.of(10, 0)),
+                all.stream().map(AppointmentResponse::getStartTime).toList());
+        assertEquals(1, repository().findAppointmentsFrom("owner", date.plusDays(1)).size());
+    }
+
+    @Test
+    void findAppointmentsFrom_returnsBookedFields() {
+        repository().replaceAvailability("owner", date, slots);
+        AppointmentResponse booked = appointment("owner", date, LocalTime.of(11, 0));
+        repository().book(booked);
+
+        assertEquals(List.of(booked), repository().findAppointmentsFrom("owner", date));
+        assertTrue(repository().findAppointmentsFrom("owner", date.plusDays(1)).isEmpty());
+        assertTrue(repository().findAppointmentsFrom("other", date).isEmpty());
+    }
+
+    @Test
+    void usage_countsStoredDaysAndAppointments() {
+        assertEquals(0, repository().usage().entries());
+        repository().replaceAvailability("owner", date, slots);
+        repository().replaceAvailability("owner", date, slots);
+        repository().replaceAvailability("owner", date.plusDays(1), slots);
+        repository().book(appointment("owner", date, LocalTime.of(10, 0)));
+
+        StorageUsage usage = repository().usage();
+        assertEquals(2, usage.days());
+        assertEquals(1, usage.appointments());
+    }
+
+    @Test
+    void findDayCounts_followsReplaceAndBook() {
+        repository().replaceAvailability("owner", date, slots);
+        repository().replaceAvailability("owner", date.plusDays(2), List.of(LocalTime.of(9, 0)));
+        repository().replaceAvailability("owner", date.plusDays(40), slots);
+        repository().book(appointment("owner", date, LocalTime.of(10, 0)));
+        repository().book(appointment("owner", date.plusDays(2), LocalTime.of(9, 0)));
+        repository().replaceAvailability("owner", date.plusDays(40), List.of(LocalTime.of(9, 0)));
+
+        assertEquals(List.of(new DayCount(date, 1, 1), new DayCount(date.plusDays(2), 1, 0),
+                        new DayCount(date.plusDays(40), 0, 1)),
+                repository().findDayCounts("owner", date.minusDays(5), date.plusDays(60)));
+        assertEquals(List.of(new DayCount(date.plusDays(2), 1, 0)),
+                repository().findDayCounts("owner", date.plusDays(1), date.plusDays(39)));
+        assertTrue(repository().findDayCounts("other", date, date.plusDays(60)).isEmpty());
+    }
+
+    @Test
+    void forEachOwner_visitsOwnersWithAvailability() {
+        repository().replaceAvailability("owner-a", date, slots);
+        repository().replaceAvailability("owner-b", date, slots);
+        repository().replaceAvailability("owner-b", date.plusDays(1), slots);
+
+        List<String> owners = new ArrayList<>();
+        repository().forEachOwner(owners::add);
+        assertEquals(List.of("owner-a", "owner-b"), owners.stream().sorted().toList());
+    }
+
+    @Test
+    void concurrentBookings_ofSameSlot_haveOneWinner() throws Exception {
+        repository().replaceAvailability("owner", date, slots);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    if (repository().book(appointment("owner", date, LocalTime.of(10, 0)))) {
+                        winners.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, winners.get());
+    }
+
+    private static AppointmentResponse appointment(String ownerId, LocalDate date, LocalTime start) {
+        return new AppointmentResponse(UUID.randomUUID(), ownerId, date, start, start.plusHours(1), "User", "u@example.com");
+    }
+}
@@ -0,0 +1,61 @@
+package org.assignment.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.store.TieredAvailabilityStore;
+import org.assignment.store.TieredStoreProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCalendarRepositoryTest extends CalendarRepositoryContractTest {
+
+    private final TieredAvailabilityStore store = new TieredAvailabilityStore(new TieredStoreProperties(), new SimpleMeterRegistry());
+    private final CalendarRepository repository = new InMemoryCalendarRepository(store);
+
+    @Override
+    protected CalendarRepository repository() {
+        return repository;
+    }
+
+    @Test
+    void book_whenSlotAlreadyRecordedAsBooked_keepsAvailability() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        LocalTime ten = LocalTime.of(10, 0);
+        repository.replaceAvailability("owner1", date, List.of(ten));
+        assertTrue(repository.book(appointment(date, ten)));
+
+        // Availability that reappeared behind the repository's back must survive a refused booking
+        store.put("owner1", date, List.of(ten));
+        assertFalse(repository.book(appointment(date, ten)));
+        assertEquals(List.of(ten), List.copyOf(repository.findAvailability("owner1", date)));
+        assertEquals(1, repository.findAppointmentsFrom("owner1", date).size());
+    }
+
+    @Test
+    void usage_chargesNewInviteesOnTopOfTheAppointmentRecord() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        repository.replaceAvailability("owner1", date, List.of(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        assertTrue(repository.book(appointment(date, LocalTime.of(9, 0))));
+        long afterFirst = repository.usage().estimatedBytes();
+
+        // Same invitee again: only the table record
+        assertTrue(repository.book(appointment(date, LocalTime.of(10, 0))));
+        long afterRepeat = repository.usage().estimatedBytes();
+        assertEquals(InMemoryCalendarRepository.APPOINTMENT_BYTES, afterRepeat - afterFirst);
+
+        // A new invitee also adds its two pooled strings
+        assertTrue(repository.book(new AppointmentResponse(UUID.randomUUID(), "owner1", date, LocalTime.of(11, 0),
+                LocalTime.of(12, 0), "Invitee 1234567", "invitee1234567@example.com")));
+        assertTrue(repository.usage().estimatedBytes() - afterRepeat > InMemoryCalendarRepository.APPOINTMENT_BYTES + 200);
+    }
+
+    private static AppointmentResponse appointment(LocalDate date, LocalTime start) {
+        return new AppointmentResponse(UUID.randomUUID(), "owner1", date, start, start.plusHours(1), "User", "u@example.com");
+    }
+}
@@ -0,0 +1,159 @@
+package org.assignment.repository;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.config.JdbcRepositoryConfig;
+import org.assignment.config.JdbcRepositoryProperties;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.serviceImpl.CalendarServiceImpl;
+import org.assignment.serviceImpl.CalendarTransferStreamer;
+import org.assignment.tenant.TenantContext;
+import org.assignment.tenant.TenantProperties;
+import org.assignment.tenant.TenantQuotas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcCalendarRepositoryTest extends CalendarRepositoryContractTest {
+
+    private final JdbcRepositoryConfig config = new JdbcRepositoryConfig();
+    private HikariDataSource dataSource;
+    private CalendarPartitionFactory partitions;
+    private CalendarRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        // Fresh in-memory database per test
+        properties.setUrl("jdbc:h2:mem:" + UUID.randomUUID());
+        dataSource = config.calendarDataSource(properties);
+        partitions = config.jdbcPartitionFactory(dataSource);
+        repository = partitions.create(TenantContext.DEFAULT_TENANT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Override
+    protected CalendarRepository repository() {
+        return repository;
+    }
+
+    @Test
+    void tenantsSharingTables_seeOnlyTheirOwnRows() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        LocalTime nine = LocalTime.of(9, 0);
+        CalendarRepository other = partitions.create("acme");
+        repository.replaceAvailability("owner", date, List.of(nine));
+        other.replaceAvailability("owner", date, List.of(nine));
+
+        assertTrue(other.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine, nine.plusHours(1),
+                "Jane", "jane@example.com")));
+
+        assertEquals(List.of(nine), List.copyOf(repository.findAvailability("owner", date)));
+        assertTrue(repository.findAppointmentsFrom("owner", date).isEmpty());
+        assertEquals(new StorageUsage(1, 0, 0), repository.usage());
+        assertEquals(new StorageUsage(1, 1, 0), other.usage());
+        // Counters of a new instance start from the rows already stored
+        assertEquals(new StorageUsage(1, 1, 0), partitions.create("acme").usage());
+    }
+
+    @Test
+    void storedTenants_areVisibleBeforeTheirFirstWriteAfterRestart() {
+        LocalDate date = LocalDate.now().plusDays(1);
+        LocalTime nine = LocalTime.of(9, 0);
+        partitions.create("acme").replaceAvailability("owner", date, List.of(nine));
+
+        TenantProperties tenantProperties = new TenantProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PartitionedCalendarRepository restarted = new PartitionedCalendarRepository(partitions, tenantProperties,
+                new TenantQuotas(tenantProperties, meterRegistry), meterRegistry);
+
+        TenantContext.runAs("acme", () -> {
+            assertEquals(List.of(nine), List.copyOf(restarted.findAvailability("owner", date)));
+            assertTrue(restarted.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine, nine.plusHours(1),
+                    "Jane", "jane@example.com")));
+        });
+        assertEquals(1.0, meterRegistry.get("calendar.tenants").gauge().value());
+    }
+
+    @Test
+    void databaseFromBeforeTenants_isUpgradedToDefaultTenant() throws Exception {
+        String url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        LocalDate date = LocalDate.now().plusDays(1);
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE availability_day (owner_id VARCHAR(255) NOT NULL, slot_date DATE NOT NULL,"
+                    + " PRIMARY KEY (owner_id, slot_date))");
+            statement.execute("CREATE TABLE availability_slot (owner_id VARCHAR(255) NOT NULL, slot_date DATE NOT NULL,"
+                    + " start_time TIME NOT NULL, PRIMARY KEY (owner_id, slot_date, start_time))");
+            statement.execute("CREATE TABLE appointment (id UUID NOT NULL PRIMARY KEY, owner_id VARCHAR(255) NOT NULL,"
+                    + " appt_date DATE NOT NULL, start_time TIME NOT NULL, end_time TIME NOT NULL,"
+                    + " invitee_name VARCHAR(255) NOT NULL, invitee_email VARCHAR(255) NOT NULL,"
+                    + " CONSTRAINT uq_appointment_slot UNIQUE (owner_id, appt_date, start_time))");
+            statement.execute("INSERT INTO availability_day VALUES ('owner', DATE '" + date + "')");
+            statement.execute("INSERT INTO availability_slot VALUES ('owner', DATE '" + date + "', TIME '10:00:00')");
+            statement.execute("INSERT INTO appointment VALUES (RANDOM_UUID(), 'owner', DATE '" + date + "',"
+                    + " TIME '09:00:00', TIME '10:00:00', 'Jane', 'jane@example.com')");
+
+            JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+            properties.setUrl(url);
+            try (HikariDataSource upgraded = config.calendarDataSource(properties)) {
+                CalendarPartitionFactory upgradedPartitions = config.jdbcPartitionFactory(upgraded);
+                assertEquals(List.of(TenantContext.DEFAULT_TENANT), upgradedPartitions.storedTenants());
+
+                CalendarRepository legacy = upgradedPartitions.create(TenantContext.DEFAULT_TENANT);
+                assertEquals(List.of(LocalTime.of(10, 0)), List.copyOf(legacy.findAvailability("owner", date)));
+                assertEquals(new StorageUsage(1, 1, 0), legacy.usage());
+                // Keys now lead with the tenant, so another tenant can use the same owner and date
+                CalendarRepository acme = upgradedPartitions.create("acme");
+                assertTrue(acme.replaceAvailability("owner", date, List.of(LocalTime.of(9, 0))));
+                assertTrue(acme.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, LocalTime.of(9, 0),
+                        LocalTime.of(10, 0), "Joe", "joe@example.com")));
+            }
+            statement.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void export_withSingleConnectionPool_readsEachOwnerWhileListingOwners() throws Exception {
+        JdbcRepositoryProperties properties = new JdbcRepositoryProperties();
+        properties.setUrl("jdbc:h2:mem:" + UUID.randomUUID());
+        properties.setPoolSize(1);
+        LocalDate date = LocalDate.now().plusDays(1);
+        int owners = 1_001;
+        try (HikariDataSource single = config.calendarDataSource(properties)) {
+            CalendarRepository repository = config.jdbcPartitionFactory(single).create(TenantContext.DEFAULT_TENANT);
+            for (int i = 0; i < owners; i++) {
+                repository.replaceAvailability(String.format("owner%04d", i), date, List.of(LocalTime.of(9, 0)));
+            }
+            CalendarServiceImpl calendarService = new CalendarServiceImpl();
+            ReflectionTestUtils.setField(calendarService, "calendarRepository", repository);
+            CalendarTransferStreamer streamer = new CalendarTransferStreamer(calendarService,
+                    new Jackson2ObjectMapperBuilder().build(), 1, 1_000_000);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // Holding the owner cursor's connection would leave each per-owner read waiting for the pool
+            assertTimeoutPreemptively(Duration.ofSeconds(20), () -> streamer.export(false).writeTo(out));
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertEquals(owners, lines.length);
+            assertTrue(lines[owners - 1].contains("owner1000"));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.assignment.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.exceptions.QuotaExceededException;
+import org.assignment.store.TieredStoreProperties;
+import org.assignment.tenant.TenantContext;
+import org.assignment.tenant.TenantProperties;
+import org.assignment.tenant.TenantQuotas;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedCalendarRepositoryTest extends CalendarRepositoryContractTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantProperties properties = new TenantProperties();
+    private final InMemoryPartitionFactory partitionFactory =
+            new InMemoryPartitionFactory(new TieredStoreProperties(), meterRegistry);
+    private final PartitionedCalendarRepository repository =
+            new PartitionedCalendarRepository(partitionFactory, properties, new TenantQuotas(properties, meterRegistry), meterRegistry);
+
+    private final LocalTime nine = LocalTime.of(9, 0);
+
+    @AfterEach
+    void tearDown() throws Exception {
+        partitionFactory.close();
+    }
+
+    @Override
+    protected CalendarRepository repository() {
+        return repository;
+    }
+
+    @Test
+    void tenants_haveSeparateOwnerNamespaces() {
+        TenantContext.runAs("acme", () -> repository.replaceAvailability("owner", date, List.of(nine)));
+        TenantContext.runAs("globex", () -> {
+            repository.replaceAvailability("owner", date, List.of(nine, nine.plusHours(1)));
+            assertTrue(repository.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine, nine.plusHours(1),
+                    "Jane", "jane@example.com")));
+        });
+
+        TenantContext.runAs("acme", () -> {
+            assertEquals(List.of(nine), List.copyOf(repository.findAvailability("owner", date)));
+            assertTrue(repository.findAppointmentsFrom("owner", date).isEmpty());
+            assertEquals(0, repository.usage().appointments());
+        });
+        assertNull(repository.findAvailability("owner", date));
+        assertEquals(1.0, meterRegistry.get("calendar.tenant.appointments").tag("tenant", "globex").gauge().value());
+    }
+
+    @Test
+    void readsOfUnknownTenant_doNotCreatePartition() {
+        properties.setMaxTenants(1);
+        TenantContext.runAs("reader", () -> {
+            assertNull(repository.findAvailability("owner", date));
+            assertTrue(repository.findAllAvailability("owner").isEmpty());
+            assertFalse(repository.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine, nine.plusHours(1),
+                    "Jane", "jane@example.com")));
+            List<String> owners = new ArrayList<>();
+            repository.forEachOwner(owners::add);
+            assertTrue(owners.isEmpty());
+            assertEquals(StorageUsage.EMPTY, repository.usage());
+        });
+
+        assertTrue(repository.replaceAvailability("owner", date, List.of(nine)));
+        assertEquals(1.0, meterRegistry.get("calendar.tenants").gauge().value());
+    }
+
+    @Test
+    void writesBeyondTenantLimit_areThrottled() {
+        properties.setMaxTenants(1);
+        repository.replaceAvailability("owner", date, List.of(nine));
+
+        assertThrows(QuotaExceededException.class, () ->
+                TenantContext.runAs("late", () -> repository.replaceAvailability("owner", date, List.of(nine))));
+        assertEquals(1.0, meterRegistry.get("calendar.tenant.throttled").tag("tenant", "late").counter().count());
+        // Existing tenants keep writing
+        assertTrue(repository.replaceAvailability("owner", date.plusDays(1), List.of(nine)));
+    }
+
+    @Test
+    void concurrentWrites_ofManyOwners_neverOvershootEntryQuota() throws Exception {
+        properties.setMaxEntries(20);
+        int writers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            for (int round = 0; round < 50; round++) {
+                LocalDate day = date.plusDays(round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < writers; i++) {
+                    String owner = "owner-" + i;
+                    futures.add(pool.submit(() -> {
+                        start.await();
+                        try {
+                            if (repository.replaceAvailability(owner, day, List.of(nine))) {
+                                repository.book(new AppointmentResponse(UUID.randomUUID(), owner, day, nine,
+                                        nine.plusHours(1), "Jane", "jane@example.com"));
+                            }
+                        } catch (QuotaExceededException ex) {
+                            // expected once the tenant is full
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                assertTrue(repository.usage().entries() <= 20, "entries " + repository.usage().entries());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertTrue(repository.usage().entries() > 0);
+    }
+
+    @Test
+    void failedWrites_releaseTheirReservation() {
+        properties.setMaxEntries(2);
+        repository.replaceAvailability("owner", date, List.of(nine));
+
+        for (int i = 0; i < 5; i++) {
+            assertFalse(repository.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine.plusHours(1),
+                    nine.plusHours(2), "Jane", "jane@example.com")));
+        }
+        assertTrue(repository.book(new AppointmentResponse(UUID.randomUUID(), "owner", date, nine, nine.plusHours(1),
+                "Jane", "jane@example.com")));
+        assertThrows(QuotaExceededException.class, () -> repository.replaceAvailability("owner", date.plusDays(1), List.of(nine)));
+    }
+}
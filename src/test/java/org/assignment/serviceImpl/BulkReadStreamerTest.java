@@ -0,0 +1,95 @@
+package org.assignment.serviceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.dtos.BulkReadRequest;
+import org.assignment.dtos.DaySlots;
+import org.assignment.exceptions.BadRequestException;
+import org.assignment.services.CalendarService;
+import org.assignment.utils.ValidationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class BulkReadStreamerTest {
+
+    @Mock
+    private CalendarService calendarService;
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+    private BulkReadStreamer streamer;
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        streamer = new BulkReadStreamer(calendarService, new ValidationUtil(), objectMapper, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamer.shutdown();
+    }
+
+    @Test
+    void appointments_areStreamedPerOwnerInRequestOrder() throws Exception {
+        List<String> owners = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            owners.add("owner-" + i);
+        }
+        given(calendarService.listAppointmentsInRange(anyString(), eq(date), eq(null))).willAnswer(inv -> List.of(
+                new AppointmentResponse(UUID.randomUUID(), inv.getArgument(0), date, LocalTime.of(10, 0), LocalTime.of(11, 0), "U", "u@e.com")));
+
+        JsonNode body = write(streamer.appointments(new BulkReadRequest(owners, date, null)));
+
+        assertEquals(20, body.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals("owner-" + i, body.get(i).get("ownerId").asText());
+            assertEquals("owner-" + i, body.get(i).get("appointments").get(0).get("ownerId").asText());
+            assertEquals("10:00", body.get(i).get("appointments").get(0).get("startTime").asText());
+        }
+    }
+
+    @Test
+    void slots_defaultToTodayAndKeepEmptyOwners() throws Exception {
+        given(calendarService.searchAvailableSlotsInRange(eq("a"), eq(LocalDate.now()), any()))
+                .willReturn(List.of(new DaySlots(date, List.of(LocalTime.of(9, 0)))));
+        given(calendarService.searchAvailableSlotsInRange(eq("b"), eq(LocalDate.now()), any())).willReturn(List.of());
+
+        JsonNode body = write(streamer.slots(new BulkReadRequest(List.of("a", "b"), null, date)));
+
+        assertEquals("09:00", body.get(0).get("slots").get(0).get("availableStartTimes").get(0).asText());
+        assertEquals(0, body.get(1).get("slots").size());
+    }
+
+    @Test
+    void invalidRequest_isRejectedBeforeStreaming() {
+        assertThrows(BadRequestException.class, () -> streamer.appointments(new BulkReadRequest(List.of(), null, null)));
+        assertThrows(BadRequestException.class, () -> streamer.slots(new BulkReadRequest(List.of("a"), date, date.minusDays(1))));
+    }
+
+    private JsonNode write(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return objectMapper.readTree(out.toByteArray());
+    }
+}
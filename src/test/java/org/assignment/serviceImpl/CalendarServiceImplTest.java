@@ -1,21 +1,35 @@
 package org.assignment.serviceImpl;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.assignment.dtos.*;
+import org.assignment.events.CalendarEventPublisher;
 import org.assignment.exceptions.BadRequestException;
 import org.assignment.exceptions.AvailabilityException;
+import org.assignment.exceptions.QuotaExceededException;
+import org.assignment.repository.CalendarRepository;
+import org.assignment.repository.InMemoryPartitionFactory;
+import org.assignment.repository.PartitionedCalendarRepository;
+import org.assignment.store.TieredStoreProperties;
+import org.assignment.tenant.TenantProperties;
+import org.assignment.tenant.TenantQuotas;
 import org.assignment.utils.ValidationUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
 import java.util.List;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CalendarServiceImplTest {
@@ -23,6 +37,24 @@ class CalendarServiceImplTest {
     @Spy
     private ValidationUtil validationUtil = new ValidationUtil();
 
+    @Mock
+    private CalendarEventPublisher eventPublisher;
+
+    private final TenantProperties tenantProperties = new TenantProperties();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private CalendarRepository calendarRepository = new PartitionedCalendarRepository(
+            new InMemoryPartitionFactory(new TieredStoreProperties(), meterRegistry), tenantProperties,
+            new TenantQuotas(tenantProperties, meterRegistry), meterRegistry);
+
+    @Spy
+    private SlotSearchCoalescer slotSearchCoalescer = new SlotSearchCoalescer(new SimpleMeterRegistry());
+
+    @Spy
+    private OwnerPoolIndex ownerPoolIndex = new OwnerPoolIndex(calendarRepository, new SimpleMeterRegistry(), 16);
+
     @InjectMocks
     private CalendarServiceImpl calendarService;
 
@@ -53,6 +85,7 @@ class CalendarServiceImplTest {
         assertEquals(date, daySlots.getDate());
         // 09:15-12:45 aligns to 10:00-12:00, so 10:00 and 11:00 are valid starts
         assertEquals(List.of(LocalTime.of(10, 0), LocalTime.of(11, 0)), daySlots.getAvailableStartTimes());
+        assertThrows(UnsupportedOperationException.class, () -> daySlots.getAvailableStartTimes().clear());
 
         BookAppointmentRequest book = new BookAppointmentRequest(
                 ownerId,
@@ -71,6 +104,9 @@ class CalendarServiceImplTest {
         List<DaySlots> slotsAfter = calendarService.searchAvailableSlots(ownerId);
         assertEquals(1, slotsAfter.size());
         assertEquals(List.of(LocalTime.of(11, 0)), slotsAfter.get(0).getAvailableStartTimes());
+
+        verify(eventPublisher).publishAvailabilitySet(ownerId, date, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        verify(eventPublisher).publishAppointmentBooked(appt);
     }
 
     @Test
@@ -163,6 +199,151 @@ class CalendarServiceImplTest {
         assertEquals(409, resp.getCode());
         assertTrue(resp.getMessage().contains("An appointment has already been booked for that date"));
     }
-}
 
+    @Test
+    void findEarliestAvailableSlots_acrossPool_tracksBookingsAndAvailabilityChanges() {
+        LocalDate d2 = date.plusDays(1);
+        calendarService.setAvailability(new AvailabilityRuleRequest("rep-a", date, LocalTime.of(14, 0), LocalTime.of(16, 0)));
+        calendarService.setAvailability(new AvailabilityRuleRequest("rep-b", date, LocalTime.of(10, 0), LocalTime.of(11, 0)));
+        calendarService.setAvailability(new AvailabilityRuleRequest("rep-c", d2, LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        calendarService.setAvailability(new AvailabilityRuleRequest("outsider", date, LocalTime.of(8, 0), LocalTime.of(9, 0)));
+        EarliestSlotsRequest query = new EarliestSlotsRequest(List.of("rep-c", "rep-a", "rep-b"), date, LocalTime.of(9, 0), 2);
+
+        assertEquals(List.of(new OwnerSlot("rep-b", date, LocalTime.of(10, 0)), new OwnerSlot("rep-a", date, LocalTime.of(14, 0))),
+                calendarService.findEarliestAvailableSlots(query));
+
+        // Index built by the first query is updated incrementally afterwards
+        calendarService.bookAppointment(new BookAppointmentRequest("rep-b", date, LocalTime.of(10, 0), "P", "p@p.com"));
+        calendarService.setAvailability(new AvailabilityRuleRequest("rep-c", date, LocalTime.of(12, 0), LocalTime.of(13, 0)));
+
+        assertEquals(List.of(new OwnerSlot("rep-c", date, LocalTime.of(12, 0)), new OwnerSlot("rep-a", date, LocalTime.of(14, 0))),
+                calendarService.findEarliestAvailableSlots(query));
+        query.setFromTime(LocalTime.of(15, 0));
+        query.setLimit(null);
+        assertEquals(List.of(new OwnerSlot("rep-a", date, LocalTime.of(15, 0)), new OwnerSlot("rep-c", d2, LocalTime.of(9, 0))),
+                calendarService.findEarliestAvailableSlots(query));
+    }
+
+    @Test
+    void findEarliestAvailableSlots_neverReturnsDaysThatHavePassed() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        calendarService.setAvailability(new AvailabilityRuleRequest("rep-a", date, LocalTime.of(14, 0), LocalTime.of(15, 0)));
+        EarliestSlotsRequest query = new EarliestSlotsRequest(List.of("rep-a"), yesterday, LocalTime.of(9, 0), 5);
+        calendarService.findEarliestAvailableSlots(query);
+
+        // An indexed day that is now in the past, as left behind by a pool built before midnight
+        calendarRepository.replaceAvailability("rep-a", yesterday, List.of(LocalTime.of(10, 0)));
+        ownerPoolIndex.onOwnerDateChanged("rep-a", yesterday);
+
+        assertEquals(List.of(new OwnerSlot("rep-a", date, LocalTime.of(14, 0))), calendarService.findEarliestAvailableSlots(query));
+    }
+
+    @Test
+    void findEarliestAvailableSlots_withEmptyPool_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () ->
+                calendarService.findEarliestAvailableSlots(new EarliestSlotsRequest(List.of(), date, null, 5)));
+    }
+
+    @Test
+    void rangeReads_returnOnlyDatesWithinRange() {
+        LocalDate d2 = date.plusDays(1);
+        LocalDate d3 = date.plusDays(2);
+        for (LocalDate d : List.of(date, d2, d3)) {
+            calendarService.setAvailability(new AvailabilityRuleRequest(ownerId, d, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+            calendarService.bookAppointment(new BookAppointmentRequest(ownerId, d, LocalTime.of(10, 0), "A", "a@a.com"));
+        }
+
+        List<AppointmentResponse> appts = calendarService.listAppointmentsInRange(ownerId, d2, d2);
+        assertEquals(1, appts.size());
+        assertEquals(d2, appts.get(0).getDate());
+        assertEquals(List.of(d2, d3), calendarService.searchAvailableSlotsInRange(ownerId, d2, null).stream().map(DaySlots::getDate).toList());
+        assertTrue(calendarService.searchAvailableSlotsInRange("nobody", date, null).isEmpty());
+    }
+
+    @Test
+    void importOwnerRecords_restoresAvailabilityAndAppointmentsWithOriginalIds() {
+        UUID id = UUID.randomUUID();
+        LocalDate past = date.minusDays(10);
+        List<TransferRecord> records = List.of(
+                new TransferRecord(TransferRecord.Type.AVAILABILITY, ownerId, date, List.of(LocalTime.of(10, 0)), null, null, null, null, null),
+                new TransferRecord(TransferRecord.Type.APPOINTMENT, ownerId, date, null, id, LocalTime.of(11, 0), null, "A", "a@a.com"),
+                new TransferRecord(TransferRecord.Type.AVAILABILITY, ownerId, past, List.of(LocalTime.of(9, 0)), null, null, null, null, null),
+                new TransferRecord(TransferRecord.Type.AVAILABILITY, ownerId, date.plusDays(1), List.of(LocalTime.of(9, 30)), null, null, null, null, null),
+                new TransferRecord(TransferRecord.Type.APPOINTMENT, "someone-else", date, null, null, LocalTime.of(10, 0), null, "B", "b@b.com"));
+
+        ImportResult result = calendarService.importOwnerRecords(ownerId, records);
+
+        assertEquals(new ImportResult(2, 1, 2), result);
+        assertEquals(List.of(LocalTime.of(10, 0)), List.copyOf(calendarRepository.findAvailability(ownerId, date)));
+        AppointmentResponse imported = calendarService.listUpcomingAppointments(ownerId).get(0);
+        assertEquals(id, imported.getId());
+        assertEquals(LocalTime.of(12, 0), imported.getEndTime());
+        assertNotNull(calendarRepository.findAvailability(ownerId, past));
+        verify(eventPublisher).publishAppointmentBooked(imported);
+        verify(slotSearchCoalescer).invalidate(ownerId);
+    }
+
+    @Test
+    void importOwnerRecords_onBookedDate_rejectsDayAndItsAppointments() {
+        calendarService.setAvailability(new AvailabilityRuleRequest(ownerId, date, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        calendarService.bookAppointment(new BookAppointmentRequest(ownerId, date, LocalTime.of(10, 0), "A", "a@a.com"));
+
+        ImportResult result = calendarService.importOwnerRecords(ownerId, List.of(
+                new TransferRecord(TransferRecord.Type.AVAILABILITY, ownerId, date, List.of(LocalTime.of(15, 0)), null, null, null, null, null),
+                new TransferRecord(TransferRecord.Type.APPOINTMENT, ownerId, date, null, UUID.randomUUID(), LocalTime.of(16, 0), null, "B", "b@b.com")));
+
+        assertEquals(new ImportResult(0, 0, 2), result);
+        assertEquals(List.of(LocalTime.of(11, 0)), List.copyOf(calendarRepository.findAvailability(ownerId, date)));
+    }
+
+    @Test
+    void setAvailability_beyondEntryQuota_returns429ButAllowsReplacingStoredDates() {
+        tenantProperties.setMaxEntries(1);
+        assertEquals(200, calendarService.setAvailability(
+                new AvailabilityRuleRequest(ownerId, date, LocalTime.of(10, 0), LocalTime.of(12, 0))).getCode());
+
+        AvailabilityRuleResponse rejected = calendarService.setAvailability(
+                new AvailabilityRuleRequest(ownerId, date.plusDays(1), LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        assertEquals(429, rejected.getCode());
+        assertNull(calendarRepository.findAvailability(ownerId, date.plusDays(1)));
+
+        assertEquals(200, calendarService.setAvailability(
+                new AvailabilityRuleRequest(ownerId, date, LocalTime.of(14, 0), LocalTime.of(15, 0))).getCode());
+    }
+
+    @Test
+    void bookAppointment_whenTenantAtQuota_throwsAndKeepsSlot() {
+        calendarService.setAvailability(new AvailabilityRuleRequest(ownerId, date, LocalTime.of(10, 0), LocalTime.of(12, 0)));
+        TenantProperties.Quota quota = new TenantProperties.Quota();
+        quota.setMaxEntries(1L);
+        tenantProperties.getQuotas().put("default", quota);
+
+        assertThrows(QuotaExceededException.class, () -> calendarService.bookAppointment(
+                new BookAppointmentRequest(ownerId, date, LocalTime.of(10, 0), "A", "a@a.com")));
+        assertEquals(2, calendarRepository.findAvailability(ownerId, date).size());
+    }
+
+    @Test
+    void getUtilizationStats_aggregatesCountersPerWeek() {
+        // A Monday, so the second week starts 7 days later
+        LocalDate monday = date.with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        calendarService.setAvailability(new AvailabilityRuleRequest(ownerId, monday, LocalTime.of(9, 0), LocalTime.of(13, 0)));
+        calendarService.setAvailability(new AvailabilityRuleRequest(ownerId, monday.plusDays(8), LocalTime.of(9, 0), LocalTime.of(11, 0)));
+        calendarService.bookAppointment(new BookAppointmentRequest(ownerId, monday, LocalTime.of(9, 0), "A", "a@a.com"));
+        calendarService.bookAppointment(new BookAppointmentRequest(ownerId, monday.plusDays(8), LocalTime.of(9, 0), "B", "b@b.com"));
+        calendarService.bookAppointment(new BookAppointmentRequest(ownerId, monday.plusDays(8), LocalTime.of(10, 0), "C", "c@c.com"));
+
+        UtilizationStats stats = calendarService.getUtilizationStats(ownerId, monday.plusDays(2), monday.plusDays(10), StatsPeriod.WEEK);
 
+        assertEquals(new UtilizationPeriod(monday.plusDays(2), monday.plusDays(10), 1, 2, 0, 1.0), stats.getTotal());
+        assertEquals(List.of(
+                new UtilizationPeriod(monday.plusDays(2), monday.plusDays(6), 0, 0, 0, 0.0),
+                new UtilizationPeriod(monday.plusDays(7), monday.plusDays(10), 1, 2, 0, 1.0)), stats.getPeriods());
+
+        UtilizationStats daily = calendarService.getUtilizationStats(ownerId, monday, monday.plusDays(89), null);
+        assertEquals(StatsPeriod.DAY, daily.getPeriod());
+        assertEquals(90, daily.getPeriods().size());
+        assertEquals(new UtilizationPeriod(monday, monday, 1, 1, 3, 0.25), daily.getPeriods().get(0));
+        assertEquals(new UtilizationPeriod(monday, monday.plusDays(89), 2, 3, 3, 0.5), daily.getTotal());
+    }
+}
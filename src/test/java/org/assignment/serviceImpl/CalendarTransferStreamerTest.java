@@ -0,0 +1,160 @@
+package org.assignment.serviceImpl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assignment.dtos.AppointmentResponse;
+import org.assignment.dtos.DaySlots;
+import org.assignment.dtos.ImportResult;
+import org.assignment.dtos.TransferRecord;
+import org.assignment.exceptions.PayloadTooLargeException;
+import org.assignment.services.CalendarService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarTransferStreamerTest {
+
+    @Mock
+    private CalendarService calendarService;
+
+    private static final long MAX_IMPORT_BYTES = 1_000_000;
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+    private CalendarTransferStreamer streamer;
+    private final LocalDate date = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        streamer = new CalendarTransferStreamer(calendarService, objectMapper, 4, MAX_IMPORT_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        streamer.shutdown();
+    }
+
+    @Test
+    void export_writesEachDateFollowedByItsAppointments_gzipped() throws Exception {
+        willAnswer(inv -> {
+            Consumer<String> action = inv.getArgument(0);
+            action.accept("owner-a");
+            return null;
+        }).given(calendarService).forEachOwner(any());
+        given(calendarService.searchAvailableSlotsInRange("owner-a", LocalDate.EPOCH, null)).willReturn(List.of(
+                new DaySlots(date, List.of(LocalTime.of(11, 0))), new DaySlots(date.plusDays(1), List.of())));
+        given(calendarService.listAppointmentsInRange("owner-a", LocalDate.EPOCH, null)).willReturn(List.of(
+                new AppointmentResponse(UUID.randomUUID(), "owner-a", date, LocalTime.of(10, 0), LocalTime.of(11, 0), "U", "u@e.com"),
+                new AppointmentResponse(UUID.randomUUID(), "owner-a", date.plusDays(1), LocalTime.of(9, 0), LocalTime.of(10, 0), "U", "u@e.com")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.export(true).writeTo(out);
+
+        String[] lines = new String(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())).readAllBytes(),
+                StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        List<String> types = new ArrayList<>();
+        for (String line : lines) {
+            types.add(objectMapper.readTree(line).get("type").asText());
+        }
+        assertEquals(List.of("AVAILABILITY", "APPOINTMENT", "AVAILABILITY", "APPOINTMENT"), types);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(date.toString(), first.get("date").asText());
+        assertEquals("11:00", first.get("startTimes").get(0).asText());
+        assertFalse(first.has("inviteeName"));
+    }
+
+    @Test
+    void import_appliesPerOwnerBatchesInOrderAndCountsUnparseableLines() throws Exception {
+        Map<String, List<TransferRecord>> applied = Collections.synchronizedMap(new HashMap<>());
+        given(calendarService.importOwnerRecords(anyString(), anyList())).willAnswer(inv -> {
+            List<TransferRecord> batch = inv.getArgument(1);
+            applied.computeIfAbsent(inv.getArgument(0), id -> Collections.synchronizedList(new ArrayList<>())).addAll(batch);
+            return new ImportResult(0, batch.size(), 0);
+        });
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            String owner = "owner-" + (i / 1500);
+            body.append(objectMapper.writeValueAsString(new TransferRecord(TransferRecord.Type.APPOINTMENT, owner,
+                    date.plusDays(i), null, UUID.randomUUID(), LocalTime.of(10, 0), null, "U", "u@e.com"))).append('\n');
+        }
+        body.append("not json\n\n{\"type\":\"APPOINTMENT\"}\n");
+
+        ImportResult result = streamer.importRecords(
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8)), -1, false);
+
+        assertEquals(new ImportResult(0, 3000, 2), result);
+        assertEquals(Set.of("owner-0", "owner-1"), applied.keySet());
+        List<TransferRecord> owner1 = applied.get("owner-1");
+        assertEquals(1500, owner1.size());
+        for (int i = 1; i < owner1.size(); i++) {
+            assertTrue(owner1.get(i - 1).getDate().isBefore(owner1.get(i).getDate()));
+        }
+    }
+
+    @Test
+    void import_readsLinesLongerThanTheBufferAndWithoutFinalNewline() throws Exception {
+        given(calendarService.importOwnerRecords(anyString(), anyList()))
+                .willAnswer(inv -> new ImportResult(0, inv.<List<TransferRecord>>getArgument(1).size(), 0));
+        String longName = "N".repeat(200_000);
+        String body = objectMapper.writeValueAsString(new TransferRecord(TransferRecord.Type.APPOINTMENT, "owner-a",
+                date, null, UUID.randomUUID(), LocalTime.of(10, 0), null, longName, "u@e.com")) + "\r\n \r\n"
+                + objectMapper.writeValueAsString(new TransferRecord(TransferRecord.Type.APPOINTMENT, "owner-b",
+                date, null, UUID.randomUUID(), LocalTime.of(10, 0), null, "U", "u@e.com"));
+
+        ImportResult result = streamer.importRecords(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), -1, false);
+
+        assertEquals(new ImportResult(0, 2, 0), result);
+        then(calendarService).should().importOwnerRecords(eq("owner-a"),
+                argThat(batch -> batch.size() == 1 && longName.equals(batch.get(0).getInviteeName())));
+    }
+
+    @Test
+    void import_rejectsBodiesOverTheLimit_declaredOrAfterDecompression() throws Exception {
+        byte[] line = (objectMapper.writeValueAsString(new TransferRecord(TransferRecord.Type.APPOINTMENT, "owner-a",
+                date, null, UUID.randomUUID(), LocalTime.of(10, 0), null, "U", "u@e.com")) + "\n")
+                .getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            for (long written = 0; written <= MAX_IMPORT_BYTES; written += line.length) {
+                gzip.write(line);
+            }
+        }
+        assertTrue(compressed.size() < MAX_IMPORT_BYTES);
+
+        assertThrows(PayloadTooLargeException.class, () -> streamer.importRecords(
+                new ByteArrayInputStream(line), MAX_IMPORT_BYTES + 1, false));
+        then(calendarService).shouldHaveNoInteractions();
+        assertThrows(PayloadTooLargeException.class, () -> streamer.importRecords(
+                new ByteArrayInputStream(compressed.toByteArray()), compressed.size(), true));
+        byte[] blank = "\n".repeat((int) MAX_IMPORT_BYTES).getBytes(StandardCharsets.UTF_8);
+        assertEquals(new ImportResult(0, 0, 0), streamer.importRecords(new ByteArrayInputStream(blank), -1, false));
+        assertThrows(PayloadTooLargeException.class, () -> streamer.importRecords(
+                new ByteArrayInputStream(Arrays.copyOf(blank, blank.length + 1)), -1, false));
+    }
+}
@@ -0,0 +1,120 @@
+package org.assignment.store;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NavigableMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredAvailabilityStoreTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TieredStoreProperties properties = new TieredStoreProperties();
+    private TieredAvailabilityStore store;
+
+    private final LocalDate near = LocalDate.now().plusDays(1);
+    private final LocalDate far = LocalDate.now().plusDays(100);
+    private final List<LocalTime> slots = List.of(LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+    @BeforeEach
+    void setUp() {
+        properties.setHotDays(14);
+        store = new TieredAvailabilityStore(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void put_placesNearDatesHotAndFarDatesCold() {
+        store.put("owner", near, slots);
+        store.put("owner", far, slots);
+
+        assertEquals(1, gauge("calendar.store.hot.days"));
+        assertEquals(1, gauge("calendar.store.cold.days"));
+        assertTrue(store.hasOwner("owner"));
+    }
+
+    @Test
+    void snapshot_readsBothTiersWithoutPromoting() {
+        store.put("owner", far, slots);
+        store.put("owner", near, slots);
+
+        NavigableMap<LocalDate, List<LocalTime>> snapshot = store.snapshot("owner");
+        assertEquals(List.of(near, far), List.copyOf(snapshot.keySet()));
+        assertEquals(slots, snapshot.get(far));
+        assertEquals(1, gauge("calendar.store.cold.days"));
+    }
+
+    @Test
+    void contains_checksBothTiersWithoutPromoting() {
+        store.put("owner", far, slots);
+        store.put("owner", near, slots);
+
+        assertTrue(store.contains("owner", far));
+        assertTrue(store.contains("owner", near));
+        assertFalse(store.contains("owner", far.plusDays(1)));
+        assertFalse(store.contains("other", near));
+        assertEquals(1, gauge("calendar.store.cold.days"));
+        assertEquals(1, gauge("calendar.store.hot.days"));
+    }
+
+    @Test
+    void booking_updatesColdDayInPlace_andLookupPromotesIt() {
+        store.put("owner", far, slots);
+
+        assertTrue(store.removeSlot("owner", far, LocalTime.of(10, 0)));
+        assertFalse(store.removeSlot("owner", far, LocalTime.of(10, 0)));
+        assertFalse(store.removeSlot("owner", far, LocalTime.of(11, 30)));
+        assertEquals(1, gauge("calendar.store.cold.days"));
+        assertEquals(0, gauge("calendar.store.hot.days"));
+
+        assertEquals(List.of(LocalTime.of(11, 0)), List.copyOf(store.get("owner", far)));
+        assertEquals(0, gauge("calendar.store.cold.days"));
+        assertFalse(store.removeSlot("owner", far, LocalTime.of(10, 0)));
+        assertTrue(store.removeSlot("owner", far, LocalTime.of(11, 0)));
+    }
+
+    @Test
+    void fullyBookedColdDay_isStillPresent() {
+        store.put("owner", far, List.of(LocalTime.of(10, 0)));
+        assertTrue(store.removeSlot("owner", far, LocalTime.of(10, 0)));
+
+        properties.setIdleMinutes(0);
+        store.rebalance();
+
+        assertEquals(1, gauge("calendar.store.cold.days"));
+        assertTrue(store.snapshot("owner").get(far).isEmpty());
+        assertNotNull(store.get("owner", far));
+    }
+
+    @Test
+    void rebalance_demotesIdleFarDaysAndPromotesDaysEnteringWindow() {
+        store.put("owner", far, slots);
+        store.get("owner", far);
+        assertEquals(1, gauge("calendar.store.hot.days"));
+
+        properties.setIdleMinutes(0);
+        store.rebalance();
+        assertEquals(0, gauge("calendar.store.hot.days"));
+        assertEquals(1, gauge("calendar.store.cold.days"));
+
+        properties.setHotDays(120);
+        store.rebalance();
+        assertEquals(1, gauge("calendar.store.hot.days"));
+        assertEquals(0, gauge("calendar.store.cold.days"));
+        assertEquals(0, gauge("calendar.store.cold.bytes"));
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}
@@ -0,0 +1,50 @@
+package org.assignment.tenant;
+
+import org.assignment.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantInterceptorTest {
+
+    private final TenantProperties properties = new TenantProperties();
+    private final TenantInterceptor interceptor = new TenantInterceptor(properties);
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void onlyConfiguredTenants_areServed() {
+        properties.setAllowed(List.of("acme"));
+        properties.getQuotas().put("globex", new TenantProperties.Quota());
+
+        assertEquals(TenantContext.DEFAULT_TENANT, tenantOf(null));
+        assertEquals("acme", tenantOf("acme"));
+        assertEquals("globex", tenantOf("globex"));
+        assertThrows(BadRequestException.class, () -> tenantOf("made-up-1"));
+        assertThrows(BadRequestException.class, () -> tenantOf("bad id"));
+    }
+
+    @Test
+    void allowUnknown_acceptsAnyWellFormedId() {
+        properties.setAllowUnknown(true);
+
+        assertEquals("made-up-1", tenantOf("made-up-1"));
+        assertThrows(BadRequestException.class, () -> tenantOf("bad id"));
+    }
+
+    private String tenantOf(String header) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (header != null) {
+            request.addHeader(TenantInterceptor.TENANT_HEADER, header);
+        }
+        try {
+            interceptor.preHandle(request, response, new Object());
+            return TenantContext.current();
+        } finally {
+            interceptor.afterCompletion(request, response, new Object(), null);
+        }
+    }
+}
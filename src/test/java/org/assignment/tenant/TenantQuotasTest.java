@@ -0,0 +1,53 @@
+package org.assignment.tenant;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assignment.exceptions.QuotaExceededException;
+import org.assignment.repository.StorageUsage;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantQuotasTest {
+
+    private final TenantProperties properties = new TenantProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TenantQuotas quotas = new TenantQuotas(properties, meterRegistry);
+
+    @Test
+    void noLimits_allowsEverything() {
+        assertFalse(quotas.hasLimits("default"));
+        assertDoesNotThrow(() -> quotas.check("default", new StorageUsage(1_000_000, 1_000_000, Long.MAX_VALUE), 1));
+    }
+
+    @Test
+    void entryLimit_countsWritesInFlight() {
+        properties.setMaxEntries(10);
+        StorageUsage usage = new StorageUsage(6, 2, 0);
+
+        assertDoesNotThrow(() -> quotas.check("default", usage, 2));
+        assertThrows(QuotaExceededException.class, () -> quotas.check("default", usage, 3));
+        assertEquals(1.0, meterRegistry.get("calendar.tenant.throttled").tag("tenant", "default").counter().count());
+    }
+
+    @Test
+    void byteLimit_reservesAverageEntrySizeForOtherWritesInFlight() {
+        properties.setMaxBytes(1_000);
+        StorageUsage usage = new StorageUsage(4, 0, 800);
+
+        assertDoesNotThrow(() -> quotas.check("default", usage, 1));
+        assertThrows(QuotaExceededException.class, () -> quotas.check("default", usage, 2));
+        assertThrows(QuotaExceededException.class, () -> quotas.check("default", new StorageUsage(5, 0, 1_000), 1));
+    }
+
+    @Test
+    void tenantOverride_replacesDefaultLimits() {
+        properties.setMaxEntries(10);
+        TenantProperties.Quota quota = new TenantProperties.Quota();
+        quota.setMaxEntries(100L);
+        properties.getQuotas().put("big", quota);
+        StorageUsage usage = new StorageUsage(50, 0, 0);
+
+        assertThrows(QuotaExceededException.class, () -> quotas.check("default", usage, 1));
+        assertDoesNotThrow(() -> quotas.check("big", usage, 1));
+    }
+}
@@ -0,0 +1,91 @@
+package org.assignment.utils;
+
+import org.assignment.exceptions.AvailabilityException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> flight = new SingleFlight<>();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForSameKey_shareOneLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> flight.execute("owner", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return "slots";
+        })));
+        waitUntil(() -> flight.calls() == 1);
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(() -> flight.execute("owner", () -> {
+                loads.incrementAndGet();
+                return "other";
+            })));
+        }
+        waitUntil(() -> flight.coalesced() == 5);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("slots", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(5, flight.coalesced());
+    }
+
+    @Test
+    void otherKeys_areNotBlockedByRunningLoad() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> slow = executor.submit(() -> flight.execute("busy", () -> {
+            await(release);
+            return "busy";
+        }));
+        waitUntil(() -> flight.calls() == 1);
+
+        assertEquals("free", executor.submit(() -> flight.execute("free", () -> "free")).get(5, TimeUnit.SECONDS));
+        release.countDown();
+        assertEquals("busy", slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void loaderException_isRethrownToCallerAndNextCallLoadsAgain() {
+        assertThrows(AvailabilityException.class, () -> flight.execute("owner", () -> {
+            throw new AvailabilityException("No available Slots found");
+        }));
+        assertEquals("slots", flight.execute("owner", () -> "slots"));
+        assertEquals(0, flight.coalesced());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.assignment.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringPoolTest {
+
+    private final StringPool pool = new StringPool();
+
+    @Test
+    void equalStrings_shareOneHandle() {
+        int first = pool.intern(new String("u@example.com"));
+        int second = pool.intern(new String("u@example.com"));
+        int other = pool.intern("v@example.com");
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+        assertEquals("u@example.com", pool.get(first));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void estimatedBytes_growOncePerDistinctString() {
+        pool.intern("invitee1234567@example.com");
+        long one = pool.estimatedBytes();
+        pool.intern(new String("invitee1234567@example.com"));
+
+        // 26 Latin-1 chars pad to 32 bytes
+        assertEquals(StringPool.ENTRY_BYTES + 40 + 32, one);
+        assertEquals(one, pool.estimatedBytes());
+        // Chars beyond Latin-1 take two bytes each
+        pool.intern("\u00e9t\u00e9\u2013");
+        assertEquals(one + StringPool.ENTRY_BYTES + 40 + 8, pool.estimatedBytes());
+    }
+
+    @Test
+    void concurrentInterning_keepsHandlesResolvableAcrossGrowth() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        String value = "invitee" + i;
+                        assertEquals(value, pool.get(pool.intern(value)));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(2000, pool.size());
+    }
+}
@@ -2,11 +2,14 @@ package org.assignment.utils;
 
 import org.assignment.dtos.AvailabilityRuleRequest;
 import org.assignment.dtos.BookAppointmentRequest;
+import org.assignment.dtos.EarliestSlotsRequest;
 import org.assignment.exceptions.BadRequestException;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,6 +71,25 @@ class ValidationUtilTest {
         assertThrows(BadRequestException.class, () -> util.validateAvailabilitySlotsReq(" "));
         assertThrows(BadRequestException.class, () -> util.validateAvailabilitySlotsReq(null));
     }
-}
 
+    @Test
+    void validateEarliestSlotsReq_invalid_throws() {
+        assertThrows(BadRequestException.class, () -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(null, null, null, null)));
+        assertThrows(BadRequestException.class, () -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(List.of(), null, null, null)));
+        assertThrows(BadRequestException.class, () -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(Arrays.asList("a", null), null, null, null)));
+        assertThrows(BadRequestException.class, () -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(List.of("a"), null, null, 0)));
+        assertThrows(BadRequestException.class, () -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(List.of("a"), null, null, 501)));
+        assertDoesNotThrow(() -> util.validateEarliestSlotsReq(new EarliestSlotsRequest(List.of("a"), null, null, 10)));
+    }
 
+    @Test
+    void validateUtilizationReq_invalid_throws() {
+        LocalDate from = LocalDate.now();
+        assertThrows(BadRequestException.class, () -> util.validateUtilizationReq(" ", from, from));
+        assertThrows(BadRequestException.class, () -> util.validateUtilizationReq("o1", null, from));
+        assertThrows(BadRequestException.class, () -> util.validateUtilizationReq("o1", from, from.minusDays(1)));
+        assertThrows(BadRequestException.class, () -> util.validateUtilizationReq("o1", from,
+                from.plusDays(ValidationUtil.MAX_STATS_DAYS)));
+        assertDoesNotThrow(() -> util.validateUtilizationReq("o1", from.minusDays(90), from));
+    }
+}